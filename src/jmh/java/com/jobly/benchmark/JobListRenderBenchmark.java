@@ -0,0 +1,91 @@
+package com.jobly.benchmark;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.View;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+
+import com.jobly.dto.job.JobFilter;
+import com.jobly.dto.job.JobPage;
+import com.jobly.service.JobService;
+
+import jakarta.servlet.ServletContext;
+
+/**
+ * Renders {@code jobs/list} for an anonymous visitor from a model built once up front, so the
+ * score is template cost only. Run with {@code spring.thymeleaf.cache} on to match production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dspring.thymeleaf.cache=true")
+public class JobListRenderBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ConfigurableApplicationContext context;
+    private ServletContext servletContext;
+    private View view;
+    private Map<String, Object> model;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        context = SeededApplication.start(1000);
+        servletContext = ((WebApplicationContext) context).getServletContext();
+        view = context.getBean(ThymeleafViewResolver.class).resolveViewName("jobs/list", Locale.US);
+
+        JobService jobService = context.getBean(JobService.class);
+        JobFilter filter = new JobFilter();
+        JobPage page = jobService.listOpenJobs(filter, null, PAGE_SIZE);
+        model = new HashMap<>();
+        model.put("q", null);
+        model.put("filter", filter);
+        model.put("facets", jobService.getOpenJobFacets(filter));
+        model.put("jobs", page.getJobs());
+        model.put("page", page);
+        model.put("cursor", null);
+
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+            "benchmark", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public String renderJobList() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", "/jobs");
+        request.setAttribute(DispatcherServlet.WEB_APPLICATION_CONTEXT_ATTRIBUTE, context);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        view.render(model, request, response);
+        return response.getContentAsString();
+    }
+}
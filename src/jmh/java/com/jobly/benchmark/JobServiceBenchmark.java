@@ -0,0 +1,68 @@
+package com.jobly.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.jobly.dto.job.JobPage;
+import com.jobly.dto.job.JobResponse;
+import com.jobly.service.JobService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobServiceBenchmark {
+
+    @Param({"1000", "10000"})
+    private int jobCount;
+
+    private ConfigurableApplicationContext context;
+    private JobService jobService;
+    private UserDetailsService userDetailsService;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = SeededApplication.start(jobCount);
+        jobService = context.getBean(JobService.class);
+        userDetailsService = context.getBean(UserDetailsService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<JobResponse> listAllOpenJobs() {
+        return jobService.listOpenJobs();
+    }
+
+    @Benchmark
+    public JobPage listFirstPageOfOpenJobs() {
+        return jobService.listOpenJobs(null, 20);
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return userDetailsService.loadUserByUsername(SeededApplication.POSTER_EMAIL);
+    }
+}
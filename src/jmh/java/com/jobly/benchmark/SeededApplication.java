@@ -0,0 +1,79 @@
+package com.jobly.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.jobly.JoblyApplication;
+import com.jobly.model.Company;
+import com.jobly.model.Job;
+import com.jobly.model.User;
+import com.jobly.model.enums.EmploymentType;
+import com.jobly.model.enums.JobStatus;
+import com.jobly.repository.CompanyRepository;
+import com.jobly.repository.JobRepository;
+import com.jobly.repository.UserRepository;
+import com.jobly.search.JobFacetIndex;
+import com.jobly.search.JobSearchIndex;
+
+/**
+ * Boots the application on the "test" profile (in-memory H2) and tops the seeded board up to
+ * {@code jobCount} open jobs, so benchmarks measure the real beans against a known dataset.
+ */
+final class SeededApplication {
+
+    static final String POSTER_EMAIL = "sarah.williams@techcorp.com";
+
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final String[] LOCATIONS = {"Remote", "New York, NY", "San Francisco, CA", "Austin, TX", "London"};
+    private static final String[] TITLES = {"Backend Engineer", "Frontend Developer", "Data Analyst", "Product Manager", "QA Engineer"};
+
+    private SeededApplication() {
+    }
+
+    static ConfigurableApplicationContext start(int jobCount) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(JoblyApplication.class)
+            .profiles("test")
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:jobly-benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--logging.level.root=WARN");
+        seedJobs(context, jobCount);
+        return context;
+    }
+
+    private static void seedJobs(ConfigurableApplicationContext context, int jobCount) {
+        JobRepository jobRepository = context.getBean(JobRepository.class);
+        User poster = context.getBean(UserRepository.class).findByEmail(POSTER_EMAIL).orElseThrow();
+        Company company = context.getBean(CompanyRepository.class).findAll().get(0);
+        EmploymentType[] types = EmploymentType.values();
+
+        int missing = jobCount - jobRepository.findByStatus(JobStatus.OPEN).size();
+        List<Job> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < missing; i++) {
+            Job job = new Job();
+            job.setTitle(TITLES[i % TITLES.length] + " " + i);
+            job.setDescription("Benchmark job " + i + " working on services, APIs and data pipelines.");
+            job.setLocation(LOCATIONS[i % LOCATIONS.length]);
+            job.setEmploymentType(types[i % types.length]);
+            job.setSalaryMin(40_000 + (i % 12) * 10_000);
+            job.setSalaryMax(60_000 + (i % 12) * 10_000);
+            job.setStatus(JobStatus.OPEN);
+            job.setCompany(company);
+            job.setPostedBy(poster);
+            batch.add(job);
+            if (batch.size() == SEED_BATCH_SIZE) {
+                jobRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        jobRepository.saveAll(batch);
+
+        // The in-memory indexes were built on ApplicationReadyEvent, before the extra rows existed.
+        context.getBean(JobSearchIndex.class).rebuild();
+        context.getBean(JobFacetIndex.class).rebuild();
+    }
+}
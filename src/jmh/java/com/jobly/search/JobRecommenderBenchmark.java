@@ -0,0 +1,74 @@
+package com.jobly.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jobly.dto.application.CandidateHistoryRow;
+import com.jobly.model.enums.EmploymentType;
+
+/**
+ * Top-10 recommendations for a candidate with a few applications, over a synthetic board whose
+ * descriptions draw from a skewed 5,000-word vocabulary. The latency target is 20 ms at 200k jobs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobRecommenderBenchmark {
+
+    @Param({"20000", "200000"})
+    private int jobs;
+
+    private JobRecommender recommender;
+    private JobRecommender.Profile profile;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] words = new String[5_000];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = "term" + i;
+        }
+        recommender = new JobRecommender(null, null);
+        for (long id = 1; id <= jobs; id++) {
+            recommender.index(id, words[random.nextInt(300)] + " " + words[random.nextInt(300)] + " engineer",
+                text(random, words, 80), "City " + random.nextInt(200),
+                EmploymentType.values()[random.nextInt(EmploymentType.values().length)]);
+        }
+        List<CandidateHistoryRow> history = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            history.add(new CandidateHistoryRow(id, text(random, words, 150), words[random.nextInt(300)] + " engineer",
+                text(random, words, 80), "City " + random.nextInt(200), EmploymentType.FULL_TIME));
+        }
+        profile = recommender.profileOf(history);
+    }
+
+    @Benchmark
+    public List<Long> recommendTop10() {
+        return recommender.recommend(profile, 10);
+    }
+
+    private static String text(Random random, String[] words, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(words[(int) Math.abs(random.nextGaussian() * 800) % words.length]).append(' ');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,79 @@
+package com.jobly.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jobly.dto.job.JobResponse;
+import com.jobly.model.Company;
+import com.jobly.model.Job;
+import com.jobly.model.User;
+import com.jobly.model.enums.EmploymentType;
+import com.jobly.model.enums.JobStatus;
+
+/**
+ * Entity to DTO mapping for a page of jobs, without any persistence in the way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobMappingBenchmark {
+
+    @Param({"20", "500"})
+    private int pageSize;
+
+    private List<Job> jobs;
+
+    @Setup
+    public void setUp() {
+        Company company = new Company();
+        company.setId(1L);
+        company.setName("TechCorp Solutions");
+        User poster = new User();
+        poster.setId(1L);
+        poster.setFullName("Sarah Williams");
+        poster.setEmail("sarah.williams@techcorp.com");
+
+        jobs = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Job job = new Job();
+            job.setId((long) i);
+            job.setTitle("Backend Engineer " + i);
+            job.setDescription("Build and operate the services behind the job board.");
+            job.setLocation("Remote");
+            job.setEmploymentType(EmploymentType.values()[i % EmploymentType.values().length]);
+            job.setSalaryMin(90_000);
+            job.setSalaryMax(120_000);
+            job.setStatus(JobStatus.OPEN);
+            job.setCompany(company);
+            job.setPostedBy(poster);
+            job.setCreatedAt(LocalDateTime.now().minusMinutes(i));
+            jobs.add(job);
+        }
+    }
+
+    @Benchmark
+    public List<JobResponse> toResponse() {
+        List<JobResponse> responses = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            responses.add(JobMapper.toResponse(job));
+        }
+        return responses;
+    }
+}
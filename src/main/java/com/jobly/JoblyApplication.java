@@ -2,12 +2,16 @@ package com.jobly;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class JoblyApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(JoblyApplication.class, args);
+		SpringApplication application = new SpringApplication(JoblyApplication.class);
+		// Keeps startup step timings for /actuator/startup
+		application.setApplicationStartup(new BufferingApplicationStartup(4096));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,491 @@
+package com.jobly.config;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.jobly.model.Role.RoleName;
+import com.jobly.model.enums.ApplicationStatus;
+import com.jobly.model.enums.EmploymentType;
+import com.jobly.model.enums.JobStatus;
+import com.jobly.repository.RoleRepository;
+import com.jobly.repository.UserRepository;
+
+/**
+ * Generates a production-sized synthetic dataset for load and capacity testing. Off by default;
+ * enable with {@code jobly.seed.bulk.enabled=true} and size it with the {@code jobly.seed.bulk.*}
+ * properties.
+ *
+ * Rows are written with multi-row JDBC inserts, generated in parallel chunks. Every attribute of a
+ * row derives from the random seed and the row's ordinal, so chunks need no coordination and a
+ * given seed always produces the same data. Ids for users, companies and jobs are reserved from
+ * their sequences up front; all users share one precomputed password hash.
+ *
+ * Distributions are skewed the way real boards are: a few large employers post most jobs, a few
+ * popular jobs attract most applications, and recent postings outnumber old ones.
+ */
+@Component
+@Order(10)
+public class BulkDataSeeder implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkDataSeeder.class);
+
+    public static final String EMAIL_DOMAIN = "@seed.jobly.test";
+    public static final String PASSWORD = "Password@123";
+
+    private static final String AUDITOR = "system";
+    private static final double EMPLOYER_SHARE = 0.03;
+    private static final int MAX_APPLICATIONS_PER_CANDIDATE = 60;
+
+    private static final String[] FIRST_NAMES = {"James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael",
+        "Linda", "David", "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah",
+        "Priya", "Wei", "Carlos", "Fatima", "Olga", "Kenji", "Amara", "Lucas", "Sofia", "Mohammed", "Chloe", "Ivan"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller",
+        "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore",
+        "Patel", "Chen", "Nguyen", "Kim", "Singh", "Okafor", "Silva", "Kowalski", "Tanaka", "Müller", "Rossi"};
+    private static final String[] COMPANY_WORDS = {"Apex", "Blue", "Cedar", "Delta", "Ember", "Forge", "Granite",
+        "Harbor", "Iris", "Juniper", "Kite", "Lumen", "Maple", "Nimbus", "Orbit", "Pioneer", "Quartz", "River"};
+    private static final String[] COMPANY_SUFFIXES = {"Labs", "Systems", "Solutions", "Technologies", "Health",
+        "Analytics", "Logistics", "Capital", "Works", "Studios"};
+    private static final String[] SENIORITIES = {"Junior", "", "", "Senior", "Senior", "Staff", "Lead", "Principal"};
+    private static final double[] SENIORITY_PAY = {0.7, 1.0, 1.0, 1.3, 1.3, 1.6, 1.5, 1.9};
+    private static final String[] DISCIPLINES = {"Java Developer", "Backend Engineer", "Frontend Developer",
+        "Full Stack Engineer", "Data Engineer", "Data Analyst", "Data Scientist", "DevOps Engineer",
+        "Site Reliability Engineer", "QA Engineer", "Mobile Developer", "Product Manager", "Product Designer",
+        "UX Researcher", "Security Engineer", "Machine Learning Engineer", "Technical Writer", "Support Engineer",
+        "Sales Engineer", "Engineering Manager"};
+    private static final int[] DISCIPLINE_BASE_PAY = {110_000, 115_000, 100_000, 110_000, 120_000, 80_000, 125_000,
+        115_000, 125_000, 85_000, 105_000, 120_000, 95_000, 90_000, 130_000, 140_000, 75_000, 70_000, 100_000, 150_000};
+    // Ordered by popularity; picked with a Zipf-like skew. Remote is drawn separately.
+    private static final String[] CITIES = {"San Francisco, CA", "New York, NY", "Seattle, WA", "Austin, TX",
+        "Boston, MA", "London", "Berlin", "Toronto", "Chicago, IL", "Los Angeles, CA", "Denver, CO", "Bangalore",
+        "Amsterdam", "Dublin", "Singapore", "Atlanta, GA", "Sydney", "Paris", "Raleigh, NC", "Portland, OR"};
+    private static final String[] DESCRIPTION_OPENERS = {"Join a team building", "Help us scale",
+        "Own the roadmap for", "Design and operate", "Work with customers on"};
+    private static final String[] DESCRIPTION_SUBJECTS = {"our payments platform", "a high-traffic marketplace",
+        "cloud-native data pipelines", "internal developer tooling", "our mobile apps", "real-time analytics",
+        "a healthcare records system", "logistics optimisation services"};
+    private static final String[] DESCRIPTION_CLOSERS = {"You will pair with senior engineers and ship weekly.",
+        "We value ownership, clear writing and calm on-call rotations.",
+        "Flexible hours, learning budget and a small, senior team.",
+        "Experience with distributed systems is a plus.",
+        "You will report to the head of engineering."};
+    private static final String[] COVER_LETTERS = {
+        "I have followed your product for years and would love to contribute.",
+        "My background lines up closely with the requirements in this posting.",
+        "I am looking for a team where I can grow and take on more ownership.",
+        "I have shipped similar systems in production and enjoy the on-call side too.",
+        "Please find my experience summarised below; happy to talk any time."};
+
+    // Weights are percentages in enum declaration order.
+    private static final int[] EMPLOYMENT_WEIGHTS = {62, 9, 14, 7, 4, 4};
+    private static final int[] JOB_STATUS_WEIGHTS = {8, 60, 7, 15, 10};
+    private static final int[] APPLICATION_STATUS_WEIGHTS = {55, 20, 8, 15, 2};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdSequences idSequences;
+    private final RoleRepository roleRepository;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final boolean enabled;
+    private final int users;
+    private final int jobs;
+    private final long applications;
+    private final int batchSize;
+    private final int threads;
+    private final long seed;
+    // H2 can hand the same IDENTITY value to concurrent multi-row inserts, so on H2 the
+    // application rows (the only identity table seeded here) are written one statement at a time.
+    private final Object identityInsertLock = new Object();
+    private boolean serializeIdentityInserts;
+
+    public BulkDataSeeder(JdbcTemplate jdbcTemplate,
+                          IdSequences idSequences,
+                          RoleRepository roleRepository,
+                          UserRepository userRepository,
+                          PasswordEncoder passwordEncoder,
+                          @Value("${jobly.seed.bulk.enabled:false}") boolean enabled,
+                          @Value("${jobly.seed.bulk.users:1000000}") int users,
+                          @Value("${jobly.seed.bulk.jobs:200000}") int jobs,
+                          @Value("${jobly.seed.bulk.applications:5000000}") long applications,
+                          @Value("${jobly.seed.bulk.batch-size:1000}") int batchSize,
+                          @Value("${jobly.seed.bulk.threads:0}") int threads,
+                          @Value("${jobly.seed.bulk.random-seed:42}") long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idSequences = idSequences;
+        this.roleRepository = roleRepository;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.enabled = enabled;
+        this.users = users;
+        this.jobs = jobs;
+        this.applications = applications;
+        this.batchSize = batchSize;
+        this.threads = threads > 0 ? threads : Math.min(Runtime.getRuntime().availableProcessors(), 8);
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!enabled) {
+            return;
+        }
+        if (userRepository.existsByEmail(email(0))) {
+            log.info("Bulk seed data already present, skipping");
+            return;
+        }
+        int employers = Math.max(1, (int) (users * EMPLOYER_SHARE));
+        if (users <= employers || jobs < 1) {
+            throw new IllegalArgumentException("Bulk seeding needs more users than employers and at least one job");
+        }
+        long started = System.nanoTime();
+        serializeIdentityInserts = "H2".equals(jdbcTemplate.execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        Shape shape = new Shape(
+            idSequences.reserve(IdSequences.USERS, users),
+            idSequences.reserve(IdSequences.COMPANIES, employers),
+            idSequences.reserve(IdSequences.JOBS, jobs),
+            employers);
+        log.info("Bulk seeding {} users, {} companies, {} jobs and about {} applications on {} threads",
+            users, employers, jobs, applications, threads);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("bulk-seeder-", 0).factory());
+        try {
+            String passwordHash = passwordEncoder.encode(PASSWORD);
+            long candidateRoleId = roleId(RoleName.ROLE_CANDIDATE);
+            long hiringManagerRoleId = roleId(RoleName.ROLE_HIRING_MANAGER);
+            long companyRoleId = roleId(RoleName.ROLE_COMPANY);
+
+            runPhase(pool, "users", users, batchSize, (from, to) -> insertUsers(shape, from, to, passwordHash));
+            runPhase(pool, "user roles", users, batchSize, (from, to) ->
+                insertUserRoles(shape, from, to, candidateRoleId, hiringManagerRoleId, companyRoleId));
+            runPhase(pool, "companies", employers, batchSize, (from, to) -> insertCompanies(shape, from, to));
+            runPhase(pool, "jobs", jobs, batchSize, (from, to) -> insertJobs(shape, from, to));
+            int candidates = users - employers;
+            int candidatesPerChunk = (int) Math.max(1, batchSize * (long) candidates / Math.max(1, applications));
+            runPhase(pool, "applications", candidates, candidatesPerChunk, (from, to) -> insertApplications(shape, from, to));
+        } finally {
+            pool.shutdownNow();
+        }
+        log.info("Bulk seeding finished in {} s", (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    private void runPhase(ExecutorService pool, String name, int ordinals, int chunkSize, Chunk chunk)
+        throws InterruptedException, ExecutionException {
+        long started = System.nanoTime();
+        AtomicLong rows = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < ordinals; from += chunkSize) {
+            int start = from;
+            int end = Math.min(ordinals, from + chunkSize);
+            futures.add(pool.submit(() -> rows.addAndGet(chunk.write(start, end))));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = Math.max(1e-9, (System.nanoTime() - started) / 1e9);
+        log.info("Seeded {} {} in {} s ({} rows/s)", rows.get(), name, String.format("%.1f", seconds),
+            (long) (rows.get() / seconds));
+    }
+
+    private long insertUsers(Shape shape, int from, int to, String passwordHash) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return insert("users",
+            new String[] {"id", "full_name", "email", "phone", "password", "enabled", "created_at", "created_by",
+                "updated_at", "updated_by"},
+            to - from,
+            (statement, row, index) -> {
+                int ordinal = from + row;
+                SplittableRandom random = random(1, ordinal);
+                Timestamp createdAt = daysAgo(now, random, 730);
+                statement.setLong(index++, shape.userId(ordinal));
+                statement.setString(index++, pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES));
+                statement.setString(index++, email(ordinal));
+                statement.setString(index++, String.format("+1 555 %04d", random.nextInt(10_000)));
+                statement.setString(index++, passwordHash);
+                // A small share of accounts has been disabled by admins.
+                statement.setBoolean(index++, random.nextInt(200) != 0);
+                statement.setTimestamp(index++, createdAt);
+                statement.setString(index++, AUDITOR);
+                statement.setTimestamp(index++, createdAt);
+                statement.setString(index, AUDITOR);
+            });
+    }
+
+    private long insertUserRoles(Shape shape, int from, int to, long candidateRoleId, long hiringManagerRoleId,
+                                 long companyRoleId) {
+        return insert("user_roles", new String[] {"user_id", "role_id"}, to - from, (statement, row, index) -> {
+            int ordinal = from + row;
+            long roleId = !shape.isEmployer(ordinal) ? candidateRoleId
+                : ordinal % 3 == 0 ? companyRoleId : hiringManagerRoleId;
+            statement.setLong(index++, shape.userId(ordinal));
+            statement.setLong(index, roleId);
+        });
+    }
+
+    private long insertCompanies(Shape shape, int from, int to) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return insert("companies",
+            new String[] {"id", "name", "description", "website", "address", "owner_user_id", "open_job_count",
+                "created_at", "created_by", "updated_at", "updated_by"},
+            to - from,
+            (statement, row, index) -> {
+                int ordinal = from + row;
+                SplittableRandom random = random(2, ordinal);
+                String name = pick(random, COMPANY_WORDS) + " " + pick(random, COMPANY_SUFFIXES) + " " + ordinal;
+                Timestamp createdAt = daysAgo(now, random, 730);
+                statement.setLong(index++, shape.companyId(ordinal));
+                statement.setString(index++, name);
+                statement.setString(index++, "We build " + pick(random, DESCRIPTION_SUBJECTS) + ".");
+                statement.setString(index++, "https://company" + ordinal + ".seed.jobly.test");
+                statement.setString(index++, pick(random, CITIES));
+                // Employers are the first user ordinals, one company each.
+                statement.setLong(index++, shape.userId(ordinal));
+                // Reconciled by StatisticsService once the application is ready.
+                statement.setLong(index++, 0);
+                statement.setTimestamp(index++, createdAt);
+                statement.setString(index++, AUDITOR);
+                statement.setTimestamp(index++, createdAt);
+                statement.setString(index, AUDITOR);
+            });
+    }
+
+    private long insertJobs(Shape shape, int from, int to) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        EmploymentType[] employmentTypes = EmploymentType.values();
+        return insert("jobs",
+            new String[] {"id", "title", "description", "location", "employment_type", "salary_min", "salary_max",
+                "status", "company_id", "posted_by_user_id", "created_at", "created_by", "updated_at", "updated_by"},
+            to - from,
+            (statement, row, index) -> {
+                int ordinal = from + row;
+                SplittableRandom random = random(3, ordinal);
+                int company = skewed(random, shape.employers(), 2.5);
+                int seniority = random.nextInt(SENIORITIES.length);
+                int discipline = random.nextInt(DISCIPLINES.length);
+                EmploymentType employmentType = employmentTypes[weighted(random, EMPLOYMENT_WEIGHTS)];
+                int salaryMin;
+                int salaryMax;
+                if (employmentType == EmploymentType.INTERN) {
+                    salaryMin = 20 + random.nextInt(15);
+                    salaryMax = salaryMin + 5 + random.nextInt(10);
+                } else {
+                    double pay = DISCIPLINE_BASE_PAY[discipline] * SENIORITY_PAY[seniority] * (0.85 + random.nextDouble() * 0.3);
+                    salaryMin = (int) Math.round(pay / 1000) * 1000;
+                    salaryMax = salaryMin + 10_000 + random.nextInt(6) * 10_000;
+                }
+                String title = (SENIORITIES[seniority].isEmpty() ? "" : SENIORITIES[seniority] + " ") + DISCIPLINES[discipline];
+                Timestamp createdAt = jobCreatedAt(now, ordinal);
+
+                statement.setLong(index++, shape.jobId(ordinal));
+                statement.setString(index++, title);
+                statement.setString(index++, pick(random, DESCRIPTION_OPENERS) + " " + pick(random, DESCRIPTION_SUBJECTS)
+                    + " as our next " + title + ". " + pick(random, DESCRIPTION_CLOSERS));
+                statement.setString(index++, random.nextInt(4) == 0 ? "Remote" : CITIES[skewed(random, CITIES.length, 1.8)]);
+                statement.setString(index++, employmentType.name());
+                statement.setInt(index++, salaryMin);
+                statement.setInt(index++, salaryMax);
+                statement.setString(index++, jobStatus(ordinal).name());
+                statement.setLong(index++, shape.companyId(company));
+                statement.setLong(index++, shape.userId(company));
+                statement.setTimestamp(index++, createdAt);
+                statement.setString(index++, AUDITOR);
+                statement.setTimestamp(index++, createdAt);
+                statement.setString(index, AUDITOR);
+            });
+    }
+
+    private long insertApplications(Shape shape, int fromCandidate, int toCandidate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        ApplicationStatus[] statuses = ApplicationStatus.values();
+        double mean = (double) applications / (users - shape.employers());
+        List<long[]> rows = new ArrayList<>(batchSize);
+        long written = 0;
+        for (int candidate = fromCandidate; candidate < toCandidate; candidate++) {
+            SplittableRandom random = random(4, candidate);
+            int count = Math.min(MAX_APPLICATIONS_PER_CANDIDATE, geometric(random, mean));
+            Set<Integer> applied = new HashSet<>();
+            for (int attempt = 0; applied.size() < count && attempt < count * 4; attempt++) {
+                int job = skewed(random, jobs, 1.8);
+                if (jobStatus(job) == JobStatus.DRAFT || !applied.add(job)) {
+                    continue;
+                }
+                long createdAt = Math.min(now.getTime(),
+                    jobCreatedAt(now, job).getTime() + random.nextLong(30L * 24 * 60 * 60 * 1000));
+                rows.add(new long[] {shape.jobId(job), shape.userId(shape.employers() + candidate),
+                    weighted(random, APPLICATION_STATUS_WEIGHTS), random.nextInt(COVER_LETTERS.length + 1), createdAt});
+                if (rows.size() == batchSize) {
+                    written += insertApplicationRows(rows, statuses);
+                    rows.clear();
+                }
+            }
+        }
+        return written + insertApplicationRows(rows, statuses);
+    }
+
+    private long insertApplicationRows(List<long[]> rows, ApplicationStatus[] statuses) {
+        if (serializeIdentityInserts) {
+            synchronized (identityInsertLock) {
+                return insertApplicationRowsUnlocked(rows, statuses);
+            }
+        }
+        return insertApplicationRowsUnlocked(rows, statuses);
+    }
+
+    private long insertApplicationRowsUnlocked(List<long[]> rows, ApplicationStatus[] statuses) {
+        return insert("job_applications",
+            new String[] {"job_id", "candidate_id", "cover_letter", "status", "created_at", "created_by", "updated_at",
+                "updated_by"},
+            rows.size(),
+            (statement, row, index) -> {
+                long[] values = rows.get(row);
+                Timestamp createdAt = new Timestamp(values[4]);
+                statement.setLong(index++, values[0]);
+                statement.setLong(index++, values[1]);
+                // About one in six candidates skips the cover letter.
+                statement.setString(index++, values[3] < COVER_LETTERS.length ? COVER_LETTERS[(int) values[3]] : null);
+                statement.setString(index++, statuses[(int) values[2]].name());
+                statement.setTimestamp(index++, createdAt);
+                statement.setString(index++, AUDITOR);
+                statement.setTimestamp(index++, createdAt);
+                statement.setString(index, AUDITOR);
+            });
+    }
+
+    /**
+     * Writes {@code rows} rows as one {@code insert ... values (...), (...)} statement.
+     */
+    private long insert(String table, String[] columns, int rows, RowWriter writer) {
+        if (rows == 0) {
+            return 0;
+        }
+        String group = "(" + "?, ".repeat(columns.length - 1) + "?)";
+        StringBuilder sql = new StringBuilder(64 + rows * (group.length() + 2))
+            .append("insert into ").append(table).append(" (").append(String.join(", ", columns)).append(") values ");
+        for (int row = 0; row < rows; row++) {
+            sql.append(row == 0 ? "" : ", ").append(group);
+        }
+        return jdbcTemplate.update(sql.toString(), statement -> {
+            for (int row = 0; row < rows; row++) {
+                writer.write(statement, row, row * columns.length + 1);
+            }
+        });
+    }
+
+    private JobStatus jobStatus(int jobOrdinal) {
+        return JobStatus.values()[weighted(random(5, jobOrdinal), JOB_STATUS_WEIGHTS)];
+    }
+
+    // Skewed towards the last few months, like a board that keeps growing.
+    private Timestamp jobCreatedAt(Timestamp now, int jobOrdinal) {
+        SplittableRandom random = random(6, jobOrdinal);
+        double daysAgo = 365 * Math.pow(random.nextDouble(), 2);
+        return new Timestamp(now.getTime() - (long) (daysAgo * 24 * 60 * 60 * 1000));
+    }
+
+    private SplittableRandom random(int stream, int ordinal) {
+        return new SplittableRandom(seed * 1_000_003L + stream * 0x9E3779B97F4A7C15L + ordinal);
+    }
+
+    private long roleId(RoleName roleName) {
+        return roleRepository.findByName(roleName)
+            .orElseThrow(() -> new IllegalStateException(roleName + " missing"))
+            .getId();
+    }
+
+    public static String email(int ordinal) {
+        return "user" + ordinal + EMAIL_DOMAIN;
+    }
+
+    private static Timestamp daysAgo(Timestamp now, SplittableRandom random, int maxDays) {
+        return new Timestamp(now.getTime() - random.nextLong((long) maxDays * 24 * 60 * 60 * 1000));
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    // Index in [0, bound) with low indexes much more likely; larger exponents skew harder.
+    private static int skewed(SplittableRandom random, int bound, double exponent) {
+        return Math.min(bound - 1, (int) (bound * Math.pow(random.nextDouble(), exponent)));
+    }
+
+    private static int weighted(SplittableRandom random, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    // At least one, with the given mean.
+    private static int geometric(SplittableRandom random, double mean) {
+        if (mean <= 1) {
+            return 1;
+        }
+        double p = 1 / mean;
+        return 1 + (int) (Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+    }
+
+    /**
+     * Where each kind of row starts in its reserved id range. Employers occupy the first user
+     * ordinals, so employer {@code i} owns company {@code i}.
+     */
+    private record Shape(long firstUserId, long firstCompanyId, long firstJobId, int employers) {
+
+        long userId(int ordinal) {
+            return firstUserId + ordinal;
+        }
+
+        long companyId(int ordinal) {
+            return firstCompanyId + ordinal;
+        }
+
+        long jobId(int ordinal) {
+            return firstJobId + ordinal;
+        }
+
+        boolean isEmployer(int userOrdinal) {
+            return userOrdinal < employers;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Chunk {
+        long write(int from, int to);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement statement, int row, int firstIndex) throws SQLException;
+    }
+}
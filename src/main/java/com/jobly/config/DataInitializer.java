@@ -7,6 +7,7 @@ import java.util.HashSet;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -26,6 +27,7 @@ import com.jobly.repository.RoleRepository;
 import com.jobly.repository.UserRepository;
 
 @Component
+@Order(0)
 public class DataInitializer implements ApplicationRunner {
 
     private final RoleRepository roleRepository;
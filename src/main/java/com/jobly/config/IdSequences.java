@@ -0,0 +1,130 @@
+package com.jobly.config;
+
+import java.util.List;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobly.model.BaseEntity;
+import com.jobly.model.Company;
+import com.jobly.model.Job;
+import com.jobly.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Keeps the id sequences of {@link User}, {@link Company} and {@link Job} ahead of the rows in their
+ * tables, and reserves id ranges for bulk JDBC inserts.
+ *
+ * Hibernate's pooled optimizer treats each value it reads as the top of a block of
+ * {@link BaseEntity#ID_ALLOCATION_SIZE} ids. On databases without sequences (MySQL) the sequence is a
+ * one-row table with a {@code next_val} column. The V2 migration seeds it past the rows of a database
+ * that used auto-increment ids; a sequence that still falls behind its table is moved past the data
+ * on startup.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class IdSequences implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(IdSequences.class);
+
+    public static final String USERS = User.SEQUENCE;
+    public static final String COMPANIES = Company.SEQUENCE;
+    public static final String JOBS = Job.SEQUENCE;
+
+    private static final List<String> SEQUENCES = List.of(USERS, COMPANIES, JOBS);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate ownTransaction;
+    private final Dialect dialect;
+
+    public IdSequences(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                       EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.ownTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        SEQUENCES.forEach(sequence -> reserve(sequence, 0));
+    }
+
+    /**
+     * Reserves {@code count} consecutive ids that neither existing rows nor later Hibernate inserts
+     * will use, and returns the first one.
+     */
+    public long reserve(String sequence, long count) {
+        if (!SEQUENCES.contains(sequence)) {
+            throw new IllegalArgumentException("Unknown id sequence " + sequence);
+        }
+        return transactionTemplate.execute(status -> {
+            long allocation = BaseEntity.ID_ALLOCATION_SIZE;
+            // The block ending at this value now belongs to us, so it is safe to hand out.
+            long blockEnd = nextValue(sequence);
+            Long maxId = jdbcTemplate.queryForObject("select max(id) from " + table(sequence), Long.class);
+            long first = Math.max(blockEnd - allocation + 1, (maxId != null ? maxId : 0) + 1);
+            long last = first + count - 1;
+            if (last > blockEnd) {
+                restart(sequence, last + allocation);
+                log.info("Moved id sequence {} to {}", sequence, last + allocation);
+            }
+            return first;
+        });
+    }
+
+    /**
+     * Takes {@code count} ids from the sequence the way Hibernate does, one block of
+     * {@link BaseEntity#ID_ALLOCATION_SIZE} per round trip. Unlike {@link #reserve}, this is safe
+     * while other nodes insert and allocate concurrently. Blocks are taken in their own transaction,
+     * so the MySQL sequence row is not locked for as long as the caller's transaction runs.
+     */
+    public long[] allocate(String sequence, int count) {
+        if (!SEQUENCES.contains(sequence)) {
+            throw new IllegalArgumentException("Unknown id sequence " + sequence);
+        }
+        long[] ids = new long[count];
+        int allocation = BaseEntity.ID_ALLOCATION_SIZE;
+        for (int from = 0; from < count; from += allocation) {
+            long blockEnd = ownTransaction.execute(status -> nextValue(sequence));
+            for (int i = from; i < Math.min(count, from + allocation); i++) {
+                ids[i] = blockEnd - allocation + 1 + (i - from);
+            }
+        }
+        return ids;
+    }
+
+    private long nextValue(String sequence) {
+        if (dialect.getSequenceSupport().supportsSequences()) {
+            return jdbcTemplate.queryForObject(dialect.getSequenceSupport().getSequenceNextValString(sequence), Long.class);
+        }
+        Long value = jdbcTemplate.queryForObject("select next_val from " + sequence + " for update", Long.class);
+        jdbcTemplate.update("update " + sequence + " set next_val = next_val + ?", BaseEntity.ID_ALLOCATION_SIZE);
+        return value;
+    }
+
+    private void restart(String sequence, long nextValue) {
+        if (dialect.getSequenceSupport().supportsSequences()) {
+            jdbcTemplate.execute("alter sequence " + sequence + " restart with " + nextValue);
+        } else {
+            jdbcTemplate.update("update " + sequence + " set next_val = greatest(next_val, ?)", nextValue);
+        }
+    }
+
+    private static String table(String sequence) {
+        return sequence.substring(0, sequence.length() - "_seq".length());
+    }
+}
@@ -7,11 +7,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import com.jobly.model.Role.RoleName;
 import com.jobly.service.CompanyService;
 import com.jobly.service.JobService;
+import com.jobly.service.StatisticsService;
 import com.jobly.service.UserService;
 
 @Controller
@@ -19,27 +20,32 @@ import com.jobly.service.UserService;
 @PreAuthorize("hasRole('SUPER_ADMIN')")
 public class AdminController {
 
+    private static final int PAGE_SIZE = 10;
+
     private final JobService jobService;
     private final CompanyService companyService;
     private final UserService userService;
+    private final StatisticsService statisticsService;
 
     public AdminController(JobService jobService,
                            CompanyService companyService,
-                           UserService userService) {
+                           UserService userService,
+                           StatisticsService statisticsService) {
         this.jobService = jobService;
         this.companyService = companyService;
         this.userService = userService;
+        this.statisticsService = statisticsService;
     }
 
     @GetMapping("/dashboard")
-    public String dashboard(Model model) {
-        model.addAttribute("jobs", jobService.listOpenJobs());
-        model.addAttribute("companies", companyService.getAllCompanies());
+    public String dashboard(@RequestParam(required = false) String jobsCursor,
+                            @RequestParam(defaultValue = "0") int companyPage,
+                            Model model) {
+        model.addAttribute("stats", statisticsService.getDashboardStats());
+        model.addAttribute("jobPage", jobService.listOpenJobs(jobsCursor, PAGE_SIZE));
+        model.addAttribute("jobsCursor", jobsCursor);
+        model.addAttribute("companies", companyService.getCompanies(companyPage, PAGE_SIZE));
         model.addAttribute("recentUsers", userService.getRecentUsers(5));
-        model.addAttribute("candidateCount", userService.countByRole(RoleName.ROLE_CANDIDATE));
-        model.addAttribute("companyCount", userService.countByRole(RoleName.ROLE_COMPANY));
-        model.addAttribute("hiringManagerCount", userService.countByRole(RoleName.ROLE_HIRING_MANAGER));
-        model.addAttribute("superAdminCount", userService.countByRole(RoleName.ROLE_SUPER_ADMIN));
         return "admin/dashboard";
     }
 
@@ -1,5 +1,10 @@
 package com.jobly.controller;
 
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -10,14 +15,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobly.dto.application.ApplicationReceipt;
 import com.jobly.dto.application.ApplicationRequest;
-import com.jobly.model.User;
+import com.jobly.exception.DuplicateApplicationException;
 import com.jobly.model.enums.ApplicationStatus;
-import com.jobly.security.CustomUserDetails;
+import com.jobly.security.UserPrincipal;
 import com.jobly.service.ApplicationService;
 import com.jobly.service.JobService;
+import com.jobly.web.ApplicationExportWriter;
+import com.jobly.web.DataFormat;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -30,10 +42,12 @@ public class ApplicationController {
 
     private final ApplicationService applicationService;
     private final JobService jobService;
+    private final ObjectMapper objectMapper;
 
-    public ApplicationController(ApplicationService applicationService, JobService jobService) {
+    public ApplicationController(ApplicationService applicationService, JobService jobService, ObjectMapper objectMapper) {
         this.applicationService = applicationService;
         this.jobService = jobService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/jobs/{jobId}/apply")
@@ -50,21 +64,42 @@ public class ApplicationController {
                                     @Valid @ModelAttribute("applicationRequest") ApplicationRequest applicationRequest,
                                     BindingResult bindingResult,
                                     Model model,
-                                    @AuthenticationPrincipal CustomUserDetails currentUser) {
+                                    @AuthenticationPrincipal UserPrincipal currentUser,
+                                    RedirectAttributes redirectAttributes) {
         if (bindingResult.hasErrors()) {
             model.addAttribute("job", jobService.getJob(jobId));
             return "applications/apply";
         }
         applicationRequest.setJobId(jobId);
-        User candidate = currentUser.getUser();
-        applicationService.applyToJob(applicationRequest, candidate);
+        ApplicationReceipt receipt;
+        try {
+            receipt = applicationService.submitApplication(applicationRequest, currentUser);
+        } catch (DuplicateApplicationException ex) {
+            // Double clicks and retries land back on the job instead of an error page.
+            redirectAttributes.addFlashAttribute("errorMessage", ex.getMessage());
+            return "redirect:/jobs/" + jobId;
+        }
+        if (receipt.getStatus() == ApplicationReceipt.Status.QUEUED) {
+            redirectAttributes.addFlashAttribute("successMessage",
+                "Application received. Reference: " + receipt.getId());
+        } else {
+            redirectAttributes.addFlashAttribute("successMessage", "Application submitted.");
+        }
         return "redirect:/jobs/" + jobId;
     }
 
+    @GetMapping("/applications/receipts/{receiptId}")
+    @ResponseBody
+    @Operation(summary = "Check the outcome of a submitted application")
+    public ApplicationReceipt receipt(@PathVariable String receiptId,
+                                      @AuthenticationPrincipal UserPrincipal currentUser) {
+        return applicationService.getReceipt(receiptId, currentUser);
+    }
+
     @GetMapping("/applications/mine")
     @Operation(summary = "List applications for current candidate")
-    public String myApplications(@AuthenticationPrincipal CustomUserDetails currentUser, Model model) {
-        model.addAttribute("applications", applicationService.getApplicationsForUser(currentUser.getUser()));
+    public String myApplications(@AuthenticationPrincipal UserPrincipal currentUser, Model model) {
+        model.addAttribute("applications", applicationService.getApplicationsForUser(currentUser));
         model.addAttribute("statuses", ApplicationStatus.values());
         return "applications/mine";
     }
@@ -73,10 +108,45 @@ public class ApplicationController {
     @Operation(summary = "Update application status")
     public String updateStatus(@PathVariable Long applicationId,
                                @RequestParam ApplicationStatus status,
-                               @AuthenticationPrincipal CustomUserDetails currentUser) {
+                               @AuthenticationPrincipal UserPrincipal currentUser) {
         ApplicationStatus safeStatus = status != null ? status : ApplicationStatus.SUBMITTED;
-        var updated = applicationService.updateApplicationStatus(applicationId, safeStatus, currentUser.getUser());
+        var updated = applicationService.updateApplicationStatus(applicationId, safeStatus, currentUser);
         Long jobId = updated.getJob().getId();
         return "redirect:/jobs/" + jobId + "/applications";
     }
+
+    @PostMapping("/jobs/{jobId}/applications/status")
+    @Operation(summary = "Update the status of several applications for a job")
+    public String updateStatuses(@PathVariable Long jobId,
+                                 @RequestParam(required = false) List<Long> applicationIds,
+                                 @RequestParam ApplicationStatus status,
+                                 @AuthenticationPrincipal UserPrincipal currentUser,
+                                 RedirectAttributes redirectAttributes) {
+        int updated = applicationService.updateApplicationStatuses(jobId, applicationIds, status, currentUser);
+        redirectAttributes.addFlashAttribute("successMessage",
+            updated == 1 ? "1 application moved to " + status + "." : updated + " applications moved to " + status + ".");
+        return "redirect:/jobs/" + jobId + "/applications";
+    }
+
+    @GetMapping("/jobs/{jobId}/applications/export")
+    @Operation(summary = "Export a job's applications as CSV or NDJSON")
+    public String exportApplications(@PathVariable Long jobId,
+                                     @RequestParam(defaultValue = "csv") String format,
+                                     @AuthenticationPrincipal UserPrincipal currentUser,
+                                     HttpServletResponse response) throws IOException {
+        DataFormat exportFormat = DataFormat.of(format);
+        // Checked before any header is set, so a refusal is not delivered as a download.
+        if (!jobService.canManageJob(currentUser, jobId)) {
+            return "redirect:/jobs/" + jobId;
+        }
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename("job-" + jobId + "-applications." + exportFormat.getExtension())
+            .build()
+            .toString());
+        try (ApplicationExportWriter writer = ApplicationExportWriter.open(exportFormat, response.getOutputStream(), objectMapper)) {
+            applicationService.exportApplicationsForJob(jobId, currentUser, writer::write);
+        }
+        return null;
+    }
 }
@@ -0,0 +1,98 @@
+package com.jobly.controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobly.dto.job.JobField;
+import com.jobly.dto.job.JobFilter;
+import com.jobly.dto.job.JobResponse;
+import com.jobly.service.JobService;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Read-only JSON view of the job board for integrations. Pages are written to the response as
+ * the rows are scrolled from the database, so a large page costs no more memory than a small one.
+ */
+@RestController
+@RequestMapping(path = "/api/v1/jobs", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Jobs", description = "Open jobs for partner integrations")
+public class JobApiController {
+
+    private static final int MAX_PAGE_SIZE = 10_000;
+
+    private final JobService jobService;
+    private final ObjectMapper objectMapper;
+
+    public JobApiController(JobService jobService, ObjectMapper objectMapper) {
+        this.jobService = jobService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping
+    @Operation(summary = "List open jobs, newest first",
+        description = "Returns {\"jobs\": [...], \"nextCursor\": ...}; pass nextCursor back as cursor for the next page.")
+    public void listJobs(@RequestParam(required = false) String cursor,
+                         @RequestParam(defaultValue = "100") int limit,
+                         @Parameter(description = "Comma-separated job fields; all fields when omitted")
+                         @RequestParam(required = false) String fields,
+                         @ParameterObject JobFilter filter,
+                         HttpServletResponse response) throws IOException {
+        if (limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be at most " + MAX_PAGE_SIZE);
+        }
+        List<JobField> selected = JobField.select(fields);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        // Not closed on failure: until the first flush the exception handler can still replace the body.
+        JsonGenerator json = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        json.writeStartObject();
+        json.writeArrayFieldStart("jobs");
+        String nextCursor = jobService.streamOpenJobs(filter, cursor, limit, job -> {
+            try {
+                json.writeStartObject();
+                for (JobField field : selected) {
+                    json.writeObjectField(field.getProperty(), field.valueOf(job));
+                }
+                json.writeEndObject();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        json.writeEndArray();
+        json.writeStringField("nextCursor", nextCursor);
+        json.writeEndObject();
+        json.close();
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get a job")
+    public Map<String, Object> getJob(@PathVariable Long id,
+                                      @Parameter(description = "Comma-separated job fields; all fields when omitted")
+                                      @RequestParam(required = false) String fields) {
+        List<JobField> selected = JobField.select(fields);
+        JobResponse job = jobService.getJob(id);
+        Map<String, Object> body = new LinkedHashMap<>();
+        for (JobField field : selected) {
+            body.put(field.getProperty(), field.valueOf(job));
+        }
+        return body;
+    }
+}
@@ -1,7 +1,12 @@
 package com.jobly.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -11,50 +16,104 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
-
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobly.dto.job.JobFilter;
+import com.jobly.dto.job.JobImportRow;
+import com.jobly.dto.job.JobPage;
 import com.jobly.dto.job.JobRequest;
 import com.jobly.dto.job.JobResponse;
-import com.jobly.model.User;
-import com.jobly.security.CustomUserDetails;
+import com.jobly.security.UserPrincipal;
 import com.jobly.service.ApplicationService;
 import com.jobly.service.CompanyService;
 import com.jobly.service.JobService;
+import com.jobly.web.ContentVersions;
+import com.jobly.web.JobListPageCache;
+import com.jobly.web.DataFormat;
+import com.jobly.web.JobImportReader;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
-import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.tags.Tag;
-
 @Controller
 @RequestMapping({"/", "/jobs"})
-@Tag(name = "Jobs", description = "Job browsing and management endpoints")
 public class JobController {
 
+    private static final int JOBS_PAGE_SIZE = 20;
+    private static final int SEARCH_RESULT_LIMIT = 50;
+    private static final int RECOMMENDATION_LIMIT = 20;
+
     private final JobService jobService;
     private final CompanyService companyService;
     private final ApplicationService applicationService;
+    private final ContentVersions contentVersions;
+    private final ObjectMapper objectMapper;
 
-    public JobController(JobService jobService, CompanyService companyService, ApplicationService applicationService) {
+    public JobController(JobService jobService, CompanyService companyService, ApplicationService applicationService,
+                         ContentVersions contentVersions, ObjectMapper objectMapper) {
         this.jobService = jobService;
         this.companyService = companyService;
         this.applicationService = applicationService;
+        this.contentVersions = contentVersions;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
-    @Operation(summary = "List open jobs")
-    public String listJobs(Model model) {
-        List<JobResponse> jobs = jobService.listOpenJobs();
-        model.addAttribute("jobs", jobs);
+    public String listJobs(@RequestParam(required = false) String q,
+                           @RequestParam(required = false) String cursor,
+                           @ModelAttribute("filter") JobFilter filter,
+                           Model model,
+                           ServletWebRequest request,
+                           @AuthenticationPrincipal UserPrincipal currentUser) {
+        // Signed-in pages carry a per-session CSRF token, so only anonymous ones are validated.
+        if (currentUser == null) {
+            ContentVersions.Board board = contentVersions.board();
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, ContentVersions.CACHE_CONTROL);
+            if (request.checkNotModified(board.etag(), board.lastModified())) {
+                return null;
+            }
+        }
+        model.addAttribute("q", q);
+        model.addAttribute("facets", jobService.getOpenJobFacets(filter));
+        if (q != null && !q.isBlank()) {
+            List<JobResponse> results = jobService.searchOpenJobs(q, filter, SEARCH_RESULT_LIMIT);
+            model.addAttribute("jobs", results);
+            model.addAttribute("page", new JobPage(results, null));
+            addAppliedJobIds(model, results, currentUser);
+            JobListPageCache.markRendered(request.getRequest());
+            return "jobs/list";
+        }
+        JobPage page = jobService.listOpenJobs(filter, cursor, JOBS_PAGE_SIZE);
+        model.addAttribute("jobs", page.getJobs());
+        model.addAttribute("page", page);
+        model.addAttribute("cursor", cursor);
+        addAppliedJobIds(model, page.getJobs(), currentUser);
+        JobListPageCache.markRendered(request.getRequest());
         return "jobs/list";
     }
 
+    private void addAppliedJobIds(Model model, List<JobResponse> jobs, UserPrincipal currentUser) {
+        Set<Long> applied = currentUser == null ? Set.of()
+            : applicationService.findAppliedJobIds(currentUser, jobs.stream().map(JobResponse::getId).toList());
+        model.addAttribute("appliedJobIds", applied);
+    }
+
     @GetMapping("/mine")
-    public String myJobs(@AuthenticationPrincipal CustomUserDetails currentUser, Model model) {
-        List<JobResponse> jobs = jobService.listJobsForUser(currentUser.getUser());
+    public String myJobs(@AuthenticationPrincipal UserPrincipal currentUser, Model model) {
+        List<JobResponse> jobs = jobService.listJobsForUser(currentUser);
         model.addAttribute("jobs", jobs);
         return "jobs/manage";
     }
 
+    @GetMapping("/recommended")
+    public String recommendedJobs(@AuthenticationPrincipal UserPrincipal currentUser, Model model) {
+        model.addAttribute("jobs", jobService.recommendJobs(currentUser, RECOMMENDATION_LIMIT));
+        return "jobs/recommended";
+    }
+
     @GetMapping("/new")
     public String newJobForm(Model model) {
         model.addAttribute("jobRequest", new JobRequest());
@@ -63,30 +122,61 @@ public class JobController {
     }
 
     @PostMapping
-    @Operation(summary = "Create a job")
     public String createJob(@Valid @ModelAttribute("jobRequest") JobRequest jobRequest,
                             BindingResult bindingResult,
                             Model model,
-                            @AuthenticationPrincipal CustomUserDetails currentUser) {
+                            @AuthenticationPrincipal UserPrincipal currentUser) {
         if (bindingResult.hasErrors()) {
             model.addAttribute("companies", companyService.getAllCompanies());
             return "jobs/new";
         }
-        User poster = currentUser.getUser();
-        jobService.createJob(jobRequest, poster);
+        jobService.createJob(jobRequest, currentUser);
         return "redirect:/jobs";
     }
 
+    @GetMapping("/import")
+    public String importForm() {
+        return "jobs/import";
+    }
+
+    @PostMapping("/import")
+    public String importJobs(@RequestParam("file") MultipartFile file,
+                             Model model,
+                             @AuthenticationPrincipal UserPrincipal currentUser) throws IOException {
+        List<JobImportRow> rows;
+        try (InputStream in = file.getInputStream()) {
+            rows = JobImportReader.read(DataFormat.ofFilename(file.getOriginalFilename()), in, objectMapper);
+        } catch (IllegalArgumentException ex) {
+            model.addAttribute("errorMessage", ex.getMessage());
+            return "jobs/import";
+        }
+        model.addAttribute("report", jobService.importJobs(rows, currentUser));
+        return "jobs/import";
+    }
+
     @GetMapping("/{id}")
-    @Operation(summary = "View job details")
     public String jobDetail(@PathVariable Long id,
                             Model model,
-                            @AuthenticationPrincipal CustomUserDetails currentUser) {
+                            ServletWebRequest request,
+                            @AuthenticationPrincipal UserPrincipal currentUser) {
+        if (currentUser == null) {
+            LocalDateTime lastModified = jobService.getJobLastModified(id);
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, ContentVersions.CACHE_CONTROL);
+            if (request.checkNotModified(contentVersions.jobEtag(id, lastModified), contentVersions.jobLastModified(lastModified))) {
+                return null;
+            }
+        }
         JobResponse job = jobService.getJob(id);
         model.addAttribute("job", job);
-        if (currentUser != null) {
-            boolean canManage = jobService.canManageJob(currentUser.getUser(), id);
+        if (currentUser == null) {
+            // Writes on other nodes do not evict this node's detail cache, so tag what is rendered.
+            HttpServletResponse response = request.getResponse();
+            response.setHeader(HttpHeaders.ETAG, contentVersions.jobEtag(id, job.getLastModified()));
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, contentVersions.jobLastModified(job.getLastModified()));
+        } else {
+            boolean canManage = jobService.canManageJob(currentUser, job);
             model.addAttribute("canManage", canManage);
+            model.addAttribute("applied", !applicationService.findAppliedJobIds(currentUser, List.of(id)).isEmpty());
         }
         return "jobs/detail";
     }
@@ -94,9 +184,9 @@ public class JobController {
     @GetMapping("/{id}/edit")
     public String editJob(@PathVariable Long id,
                           Model model,
-                          @AuthenticationPrincipal CustomUserDetails currentUser) {
+                          @AuthenticationPrincipal UserPrincipal currentUser) {
         JobResponse job = jobService.getJob(id);
-        if (!jobService.canManageJob(currentUser.getUser(), id)) {
+        if (!jobService.canManageJob(currentUser, job)) {
             return "redirect:/jobs/" + id;
         }
         JobRequest request = new JobRequest();
@@ -118,31 +208,32 @@ public class JobController {
                             @Valid @ModelAttribute("jobRequest") JobRequest jobRequest,
                             BindingResult bindingResult,
                             Model model,
-                            @AuthenticationPrincipal CustomUserDetails currentUser) {
+                            @AuthenticationPrincipal UserPrincipal currentUser) {
         if (bindingResult.hasErrors()) {
             model.addAttribute("companies", companyService.getAllCompanies());
             model.addAttribute("jobId", id);
             return "jobs/edit";
         }
-        jobService.updateJob(id, jobRequest, currentUser.getUser());
+        jobService.updateJob(id, jobRequest, currentUser);
         return "redirect:/jobs/" + id;
     }
 
     @PostMapping("/{id}/delete")
     public String deleteJob(@PathVariable Long id,
-                            @AuthenticationPrincipal CustomUserDetails currentUser) {
-        jobService.deleteJob(id, currentUser.getUser());
+                            @AuthenticationPrincipal UserPrincipal currentUser) {
+        jobService.deleteJob(id, currentUser);
         return "redirect:/jobs/mine";
     }
 
     @GetMapping("/{id}/applications")
     public String jobApplications(@PathVariable Long id,
                                   Model model,
-                                  @AuthenticationPrincipal CustomUserDetails currentUser) {
-        if (!jobService.canManageJob(currentUser.getUser(), id)) {
+                                  @AuthenticationPrincipal UserPrincipal currentUser) {
+        JobResponse job = jobService.getJob(id);
+        if (!jobService.canManageJob(currentUser, job)) {
             return "redirect:/jobs/" + id;
         }
-        model.addAttribute("job", jobService.getJob(id));
+        model.addAttribute("job", job);
         model.addAttribute("applications", applicationService.getApplicationsForJob(id));
         model.addAttribute("statuses", com.jobly.model.enums.ApplicationStatus.values());
         return "applications/job-list";
@@ -0,0 +1,46 @@
+package com.jobly.dto.admin;
+
+import java.util.Map;
+
+import com.jobly.model.Role.RoleName;
+
+public class DashboardStats {
+
+    private final Map<RoleName, Long> enabledUsersByRole;
+    private final long disabledUsers;
+    private final long openJobs;
+
+    public DashboardStats(Map<RoleName, Long> enabledUsersByRole, long disabledUsers, long openJobs) {
+        this.enabledUsersByRole = enabledUsersByRole;
+        this.disabledUsers = disabledUsers;
+        this.openJobs = openJobs;
+    }
+
+    public long getEnabledUsers(RoleName roleName) {
+        return enabledUsersByRole.getOrDefault(roleName, 0L);
+    }
+
+    public long getCandidateCount() {
+        return getEnabledUsers(RoleName.ROLE_CANDIDATE);
+    }
+
+    public long getCompanyCount() {
+        return getEnabledUsers(RoleName.ROLE_COMPANY);
+    }
+
+    public long getHiringManagerCount() {
+        return getEnabledUsers(RoleName.ROLE_HIRING_MANAGER);
+    }
+
+    public long getSuperAdminCount() {
+        return getEnabledUsers(RoleName.ROLE_SUPER_ADMIN);
+    }
+
+    public long getDisabledUsers() {
+        return disabledUsers;
+    }
+
+    public long getOpenJobs() {
+        return openJobs;
+    }
+}
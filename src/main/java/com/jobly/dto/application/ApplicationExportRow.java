@@ -0,0 +1,66 @@
+package com.jobly.dto.application;
+
+import java.time.LocalDateTime;
+
+import com.jobly.model.enums.ApplicationStatus;
+
+/**
+ * One application in a job's pipeline export, read together with its candidate by a single
+ * constructor query so no entity is ever loaded.
+ */
+public class ApplicationExportRow {
+
+    private final Long applicationId;
+    private final String candidateName;
+    private final String candidateEmail;
+    private final String candidatePhone;
+    private final ApplicationStatus status;
+    private final String resumeUrl;
+    private final LocalDateTime appliedAt;
+    private final LocalDateTime updatedAt;
+
+    public ApplicationExportRow(Long applicationId, String candidateName, String candidateEmail, String candidatePhone,
+                                ApplicationStatus status, String resumeUrl, LocalDateTime appliedAt,
+                                LocalDateTime updatedAt) {
+        this.applicationId = applicationId;
+        this.candidateName = candidateName;
+        this.candidateEmail = candidateEmail;
+        this.candidatePhone = candidatePhone;
+        this.status = status;
+        this.resumeUrl = resumeUrl;
+        this.appliedAt = appliedAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public String getCandidateName() {
+        return candidateName;
+    }
+
+    public String getCandidateEmail() {
+        return candidateEmail;
+    }
+
+    public String getCandidatePhone() {
+        return candidatePhone;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public String getResumeUrl() {
+        return resumeUrl;
+    }
+
+    public LocalDateTime getAppliedAt() {
+        return appliedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
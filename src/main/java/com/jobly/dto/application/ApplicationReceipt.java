@@ -0,0 +1,71 @@
+package com.jobly.dto.application;
+
+import java.time.LocalDateTime;
+
+/**
+ * Acknowledgement for a submitted application. In asynchronous mode it starts out QUEUED and is
+ * replaced by a SAVED or FAILED receipt once a writer has processed it.
+ */
+public class ApplicationReceipt {
+
+    public enum Status {
+        QUEUED,
+        SAVED,
+        FAILED
+    }
+
+    private final String id;
+    private final Long jobId;
+    private final Long candidateId;
+    private final Status status;
+    private final Long applicationId;
+    private final String failureReason;
+    private final LocalDateTime submittedAt;
+
+    public ApplicationReceipt(String id, Long jobId, Long candidateId, Status status, Long applicationId,
+                              String failureReason, LocalDateTime submittedAt) {
+        this.id = id;
+        this.jobId = jobId;
+        this.candidateId = candidateId;
+        this.status = status;
+        this.applicationId = applicationId;
+        this.failureReason = failureReason;
+        this.submittedAt = submittedAt;
+    }
+
+    public ApplicationReceipt saved(Long applicationId) {
+        return new ApplicationReceipt(id, jobId, candidateId, Status.SAVED, applicationId, null, submittedAt);
+    }
+
+    public ApplicationReceipt failed(String failureReason) {
+        return new ApplicationReceipt(id, jobId, candidateId, Status.FAILED, null, failureReason, submittedAt);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public Long getCandidateId() {
+        return candidateId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+}
@@ -0,0 +1,51 @@
+package com.jobly.dto.application;
+
+import com.jobly.model.enums.EmploymentType;
+
+/**
+ * One of a candidate's applications with the text of the job applied to, read by a single
+ * constructor query for building the candidate's recommendation profile.
+ */
+public class CandidateHistoryRow {
+
+    private final Long jobId;
+    private final String coverLetter;
+    private final String title;
+    private final String description;
+    private final String location;
+    private final EmploymentType employmentType;
+
+    public CandidateHistoryRow(Long jobId, String coverLetter, String title, String description, String location,
+                               EmploymentType employmentType) {
+        this.jobId = jobId;
+        this.coverLetter = coverLetter;
+        this.title = title;
+        this.description = description;
+        this.location = location;
+        this.employmentType = employmentType;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public String getCoverLetter() {
+        return coverLetter;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public EmploymentType getEmploymentType() {
+        return employmentType;
+    }
+}
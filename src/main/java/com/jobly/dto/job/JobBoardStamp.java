@@ -0,0 +1,39 @@
+package com.jobly.dto.job;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * The number of open jobs and the latest change among them. Every write that adds, edits or removes
+ * an open job moves one of the two, so nodes that read it from the shared database agree on whether
+ * the public board has changed.
+ */
+public class JobBoardStamp {
+
+    private final long openJobs;
+    private final LocalDateTime lastUpdated;
+
+    public JobBoardStamp(long openJobs, LocalDateTime lastUpdated) {
+        this.openJobs = openJobs;
+        this.lastUpdated = lastUpdated;
+    }
+
+    public long getOpenJobs() {
+        return openJobs;
+    }
+
+    public LocalDateTime getLastUpdated() {
+        return lastUpdated;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof JobBoardStamp stamp
+            && openJobs == stamp.openJobs && Objects.equals(lastUpdated, stamp.lastUpdated);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(openJobs, lastUpdated);
+    }
+}
@@ -0,0 +1,28 @@
+package com.jobly.dto.job;
+
+import java.util.List;
+
+public class JobFacets {
+
+    private final List<FacetCount> employmentTypes;
+    private final List<FacetCount> locations;
+    private final List<FacetCount> salaryBands;
+
+    public JobFacets(List<FacetCount> employmentTypes, List<FacetCount> locations, List<FacetCount> salaryBands) {
+        this.employmentTypes = employmentTypes;
+        this.locations = locations;
+        this.salaryBands = salaryBands;
+    }
+
+    public List<FacetCount> getEmploymentTypes() {
+        return employmentTypes;
+    }
+
+    public List<FacetCount> getLocations() {
+        return locations;
+    }
+
+    public List<FacetCount> getSalaryBands() {
+        return salaryBands;
+    }
+}
@@ -0,0 +1,67 @@
+package com.jobly.dto.job;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Fields of a job that the public API exposes, in response order. The poster's email and id stay
+ * off the wire; they are only needed by the signed-in pages.
+ */
+public enum JobField {
+
+    ID("id", JobResponse::getId),
+    TITLE("title", JobResponse::getTitle),
+    DESCRIPTION("description", JobResponse::getDescription),
+    LOCATION("location", JobResponse::getLocation),
+    EMPLOYMENT_TYPE("employmentType", JobResponse::getEmploymentType),
+    SALARY_MIN("salaryMin", JobResponse::getSalaryMin),
+    SALARY_MAX("salaryMax", JobResponse::getSalaryMax),
+    STATUS("status", JobResponse::getStatus),
+    COMPANY_ID("companyId", JobResponse::getCompanyId),
+    COMPANY_NAME("companyName", JobResponse::getCompanyName),
+    POSTED_BY("postedBy", JobResponse::getPostedBy),
+    CREATED_AT("createdAt", JobResponse::getCreatedAt),
+    UPDATED_AT("updatedAt", JobResponse::getUpdatedAt);
+
+    private final String property;
+    private final Function<JobResponse, Object> accessor;
+
+    JobField(String property, Function<JobResponse, Object> accessor) {
+        this.property = property;
+        this.accessor = accessor;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Object valueOf(JobResponse job) {
+        return accessor.apply(job);
+    }
+
+    /**
+     * Parses a comma-separated {@code fields} parameter. Blank selects every field; the result
+     * keeps declaration order whatever order the fields were requested in.
+     */
+    public static List<JobField> select(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return List.of(values());
+        }
+        EnumSet<JobField> selected = EnumSet.noneOf(JobField.class);
+        for (String name : fields.split(",")) {
+            selected.add(byProperty(name.trim()));
+        }
+        return new ArrayList<>(selected);
+    }
+
+    private static JobField byProperty(String property) {
+        for (JobField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + property);
+    }
+}
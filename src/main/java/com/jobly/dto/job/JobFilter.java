@@ -0,0 +1,40 @@
+package com.jobly.dto.job;
+
+public class JobFilter {
+
+    private String employmentType;
+    private String location;
+    private String salaryBand;
+
+    public String getEmploymentType() {
+        return employmentType;
+    }
+
+    public void setEmploymentType(String employmentType) {
+        this.employmentType = employmentType;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getSalaryBand() {
+        return salaryBand;
+    }
+
+    public void setSalaryBand(String salaryBand) {
+        this.salaryBand = salaryBand;
+    }
+
+    public boolean isEmpty() {
+        return isBlank(employmentType) && isBlank(location) && isBlank(salaryBand);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
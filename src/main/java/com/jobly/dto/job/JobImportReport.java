@@ -0,0 +1,51 @@
+package com.jobly.dto.job;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk job import. Valid rows are imported; every other row is listed with the
+ * reasons it was skipped.
+ */
+public class JobImportReport {
+
+    private final int rows;
+    private final int imported;
+    private final List<RowError> errors;
+
+    public JobImportReport(int rows, int imported, List<RowError> errors) {
+        this.rows = rows;
+        this.imported = imported;
+        this.errors = errors;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public static class RowError {
+
+        private final int line;
+        private final String message;
+
+        public RowError(int line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
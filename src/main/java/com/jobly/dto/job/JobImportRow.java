@@ -0,0 +1,38 @@
+package com.jobly.dto.job;
+
+/**
+ * One record of a bulk job import: the job it describes, or why it could not be read.
+ * {@code line} is where the record starts in the uploaded file.
+ */
+public class JobImportRow {
+
+    private final int line;
+    private final JobRequest request;
+    private final String error;
+
+    private JobImportRow(int line, JobRequest request, String error) {
+        this.line = line;
+        this.request = request;
+        this.error = error;
+    }
+
+    public static JobImportRow of(int line, JobRequest request) {
+        return new JobImportRow(line, request, null);
+    }
+
+    public static JobImportRow unreadable(int line, String error) {
+        return new JobImportRow(line, null, error);
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public JobRequest getRequest() {
+        return request;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,26 @@
+package com.jobly.dto.job;
+
+import java.util.List;
+
+public class JobPage {
+
+    private final List<JobResponse> jobs;
+    private final String nextCursor;
+
+    public JobPage(List<JobResponse> jobs, String nextCursor) {
+        this.jobs = jobs;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<JobResponse> getJobs() {
+        return jobs;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
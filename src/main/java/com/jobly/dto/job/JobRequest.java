@@ -14,6 +14,7 @@ public class JobRequest {
     private String description;
 
     @NotBlank
+    @Size(max = 100)
     private String location;
 
     @NotBlank
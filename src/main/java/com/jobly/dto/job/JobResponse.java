@@ -14,9 +14,35 @@ public class JobResponse {
     private String status;
     private Long companyId;
     private String companyName;
+    private Long postedById;
     private String postedBy;
     private String postedByEmail;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    // Only set on single-job reads: the latest change to the job, its company or its poster.
+    private LocalDateTime lastModified;
+
+    public JobResponse() {
+    }
+
+    public JobResponse(JobResponse other) {
+        this.id = other.id;
+        this.title = other.title;
+        this.description = other.description;
+        this.location = other.location;
+        this.employmentType = other.employmentType;
+        this.salaryMin = other.salaryMin;
+        this.salaryMax = other.salaryMax;
+        this.status = other.status;
+        this.companyId = other.companyId;
+        this.companyName = other.companyName;
+        this.postedById = other.postedById;
+        this.postedBy = other.postedBy;
+        this.postedByEmail = other.postedByEmail;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+        this.lastModified = other.lastModified;
+    }
 
     public Long getId() {
         return id;
@@ -98,6 +124,14 @@ public class JobResponse {
         this.companyName = companyName;
     }
 
+    public Long getPostedById() {
+        return postedById;
+    }
+
+    public void setPostedById(Long postedById) {
+        this.postedById = postedById;
+    }
+
     public String getPostedBy() {
         return postedBy;
     }
@@ -121,4 +155,20 @@ public class JobResponse {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(LocalDateTime lastModified) {
+        this.lastModified = lastModified;
+    }
 }
@@ -0,0 +1,29 @@
+package com.jobly.event;
+
+/**
+ * Published once a new application has been saved, by both the synchronous and queued write paths.
+ */
+public class ApplicationSubmittedEvent {
+
+    private final Long candidateId;
+    private final Long jobId;
+    private final String coverLetter;
+
+    public ApplicationSubmittedEvent(Long candidateId, Long jobId, String coverLetter) {
+        this.candidateId = candidateId;
+        this.jobId = jobId;
+        this.coverLetter = coverLetter;
+    }
+
+    public Long getCandidateId() {
+        return candidateId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public String getCoverLetter() {
+        return coverLetter;
+    }
+}
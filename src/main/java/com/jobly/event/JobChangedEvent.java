@@ -0,0 +1,30 @@
+package com.jobly.event;
+
+import com.jobly.dto.job.JobResponse;
+
+/**
+ * Published by the job write paths. Listeners bound to the transaction see it only after commit.
+ * {@code job} is the state after the change and is {@code null} when the job was deleted.
+ */
+public class JobChangedEvent {
+
+    private final Long jobId;
+    private final JobResponse job;
+
+    public JobChangedEvent(Long jobId, JobResponse job) {
+        this.jobId = jobId;
+        this.job = job;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public JobResponse getJob() {
+        return job;
+    }
+
+    public boolean isDeleted() {
+        return job == null;
+    }
+}
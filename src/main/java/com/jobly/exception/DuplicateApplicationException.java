@@ -0,0 +1,8 @@
+package com.jobly.exception;
+
+public class DuplicateApplicationException extends RuntimeException {
+
+    public DuplicateApplicationException() {
+        super("You have already applied to this job.");
+    }
+}
@@ -16,6 +16,12 @@ import jakarta.persistence.MappedSuperclass;
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
 
+    /**
+     * Ids handed out per sequence round trip. Entities on sequences can be insert-batched by
+     * Hibernate, which IDENTITY columns rule out.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @CreatedBy
     @Column(name = "created_by", updatable = false)
     private String createdBy;
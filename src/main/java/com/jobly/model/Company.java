@@ -12,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 
@@ -19,8 +20,11 @@ import jakarta.persistence.Table;
 @Table(name = "companies")
 public class Company extends BaseEntity {
 
+    public static final String SEQUENCE = "companies_seq";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SEQUENCE)
+    @SequenceGenerator(name = SEQUENCE, sequenceName = SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 150)
@@ -35,6 +39,10 @@ public class Company extends BaseEntity {
     @Column(length = 255)
     private String address;
 
+    // Maintained by StatisticsService; see StatCounter.
+    @Column(name = "open_job_count", nullable = false)
+    private long openJobCount;
+
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_user_id")
     private User owner;
@@ -82,6 +90,14 @@ public class Company extends BaseEntity {
         this.address = address;
     }
 
+    public long getOpenJobCount() {
+        return openJobCount;
+    }
+
+    public void setOpenJobCount(long openJobCount) {
+        this.openJobCount = openJobCount;
+    }
+
     public User getOwner() {
         return owner;
     }
@@ -17,15 +17,29 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "jobs")
+@NamedEntityGraph(
+    name = Job.WITH_COMPANY_AND_POSTER,
+    attributeNodes = {
+        @NamedAttributeNode("company"),
+        @NamedAttributeNode("postedBy")
+    }
+)
 public class Job extends BaseEntity {
 
+    public static final String WITH_COMPANY_AND_POSTER = "Job.withCompanyAndPoster";
+    public static final String SEQUENCE = "jobs_seq";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SEQUENCE)
+    @SequenceGenerator(name = SEQUENCE, sequenceName = SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 150)
@@ -13,9 +13,11 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 @Entity
-@Table(name = "job_applications")
+@Table(name = "job_applications", uniqueConstraints =
+    @UniqueConstraint(name = "uk_job_applications_job_candidate", columnNames = {"job_id", "candidate_id"}))
 public class JobApplication extends BaseEntity {
 
     @Id
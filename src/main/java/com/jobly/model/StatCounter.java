@@ -0,0 +1,42 @@
+package com.jobly.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * A named running total behind the admin dashboard. Write paths adjust it in their own
+ * transaction; a periodic reconcile resets it from the source tables.
+ */
+@Entity
+@Table(name = "stat_counters")
+public class StatCounter {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(name = "counter_value", nullable = false)
+    private long value;
+
+    protected StatCounter() {
+    }
+
+    public StatCounter(String name, long value) {
+        this.name = name;
+        this.value = value;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    public void setValue(long value) {
+        this.value = value;
+    }
+}
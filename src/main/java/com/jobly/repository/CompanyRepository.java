@@ -1,8 +1,21 @@
 package com.jobly.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.jobly.model.Company;
+import com.jobly.model.enums.JobStatus;
 
 public interface CompanyRepository extends JpaRepository<Company, Long> {
+
+    @Modifying
+    @Query("update Company c set c.openJobCount = c.openJobCount + :delta where c.id = :id")
+    int adjustOpenJobCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Company c set c.openJobCount = "
+        + "(select count(j) from Job j where j.company = c and j.status = :status)")
+    int recountOpenJobs(@Param("status") JobStatus status);
 }
@@ -1,14 +1,54 @@
 package com.jobly.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.jobly.dto.application.ApplicationExportRow;
+import com.jobly.dto.application.CandidateHistoryRow;
 import com.jobly.model.JobApplication;
-import com.jobly.model.User;
+import com.jobly.model.enums.ApplicationStatus;
+
+import jakarta.persistence.QueryHint;
 
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
-    List<JobApplication> findByCandidate(User candidate);
+    List<JobApplication> findByCandidateId(Long candidateId);
 
     List<JobApplication> findByJobId(Long jobId);
+
+    boolean existsByJobIdAndCandidateId(Long jobId, Long candidateId);
+
+    @Query("select a.job.id from JobApplication a where a.candidate.id = :candidateId and a.job.id in :jobIds")
+    List<Long> findAppliedJobIds(@Param("candidateId") Long candidateId, @Param("jobIds") Collection<Long> jobIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update JobApplication a set a.status = :status, a.updatedAt = :updatedAt, a.updatedBy = :updatedBy "
+        + "where a.job.id = :jobId and a.id in :ids")
+    int updateStatusForJob(@Param("jobId") Long jobId,
+                           @Param("ids") Collection<Long> ids,
+                           @Param("status") ApplicationStatus status,
+                           @Param("updatedAt") LocalDateTime updatedAt,
+                           @Param("updatedBy") String updatedBy);
+
+    // Ordered along idx_job_applications_job_status, so the database streams rows without a sort.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + JobRepository.STREAM_FETCH_SIZE))
+    @Query("select new com.jobly.dto.application.ApplicationExportRow("
+        + "a.id, c.fullName, c.email, c.phone, a.status, a.resumeUrl, a.createdAt, a.updatedAt) "
+        + "from JobApplication a join a.candidate c where a.job.id = :jobId order by a.status, a.id")
+    Stream<ApplicationExportRow> streamExportRowsByJobId(@Param("jobId") Long jobId);
+
+    // Newest first along idx_job_applications_candidate; the Pageable caps how much history is read.
+    @Query("select new com.jobly.dto.application.CandidateHistoryRow("
+        + "j.id, a.coverLetter, j.title, j.description, j.location, j.employmentType) "
+        + "from JobApplication a join a.job j where a.candidate.id = :candidateId order by a.createdAt desc")
+    List<CandidateHistoryRow> findHistoryByCandidateId(@Param("candidateId") Long candidateId, Pageable pageable);
 }
@@ -1,15 +1,79 @@
 package com.jobly.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.jobly.dto.job.JobBoardStamp;
 import com.jobly.model.Job;
-import com.jobly.model.User;
 import com.jobly.model.enums.JobStatus;
 
+import jakarta.persistence.QueryHint;
+
 public interface JobRepository extends JpaRepository<Job, Long> {
+    int STREAM_FETCH_SIZE = 500;
+
+    @EntityGraph(Job.WITH_COMPANY_AND_POSTER)
     List<Job> findByStatus(JobStatus status);
 
-    List<Job> findByPostedBy(User user);
+    @EntityGraph(Job.WITH_COMPANY_AND_POSTER)
+    List<Job> findByPostedById(Long posterId);
+
+    @EntityGraph(Job.WITH_COMPANY_AND_POSTER)
+    List<Job> findByIdIn(Collection<Long> ids);
+
+    @Query("select j.postedBy.id from Job j where j.id = :id")
+    Optional<Long> findPostedByIdById(@Param("id") Long id);
+
+    // The detail page shows the company and poster too, so their changes count as the job's.
+    @Query("select greatest(coalesce(j.updatedAt, j.createdAt), "
+        + "coalesce(c.updatedAt, c.createdAt, j.createdAt), coalesce(p.updatedAt, p.createdAt, j.createdAt)) "
+        + "from Job j left join j.company c left join j.postedBy p where j.id = :id")
+    Optional<LocalDateTime> findLastModifiedById(@Param("id") Long id);
+
+    @Query("select new com.jobly.dto.job.JobBoardStamp(count(j), max(j.updatedAt)) from Job j where j.status = :status")
+    JobBoardStamp findBoardStamp(@Param("status") JobStatus status);
+
+    @EntityGraph(Job.WITH_COMPANY_AND_POSTER)
+    @Query("select j from Job j where j.id = :id")
+    Optional<Job> findWithCompanyAndPosterById(@Param("id") Long id);
+
+    @EntityGraph(Job.WITH_COMPANY_AND_POSTER)
+    @Query("select j from Job j where j.status = :status order by j.createdAt desc, j.id desc")
+    List<Job> findFirstPageByStatus(@Param("status") JobStatus status, Pageable pageable);
+
+    @EntityGraph(Job.WITH_COMPANY_AND_POSTER)
+    @Query("select j from Job j where j.status = :status "
+        + "and (j.createdAt < :createdAt or (j.createdAt = :createdAt and j.id < :id)) "
+        + "order by j.createdAt desc, j.id desc")
+    List<Job> findPageByStatusAfter(@Param("status") JobStatus status,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+
+    // Scrolled rather than listed; the fetch size keeps the driver from buffering the whole result.
+    @EntityGraph(Job.WITH_COMPANY_AND_POSTER)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    @Query("select j from Job j where j.status = :status order by j.createdAt desc, j.id desc")
+    Stream<Job> streamByStatus(@Param("status") JobStatus status, Pageable pageable);
+
+    @EntityGraph(Job.WITH_COMPANY_AND_POSTER)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    @Query("select j from Job j where j.status = :status "
+        + "and (j.createdAt < :createdAt or (j.createdAt = :createdAt and j.id < :id)) "
+        + "order by j.createdAt desc, j.id desc")
+    Stream<Job> streamByStatusAfter(@Param("status") JobStatus status,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
 }
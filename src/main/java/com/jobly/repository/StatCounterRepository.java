@@ -0,0 +1,34 @@
+package com.jobly.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.jobly.model.Role.RoleName;
+import com.jobly.model.StatCounter;
+import com.jobly.model.enums.JobStatus;
+
+public interface StatCounterRepository extends JpaRepository<StatCounter, String> {
+
+    @Modifying
+    @Query("update StatCounter c set c.value = c.value + :delta where c.name = :name")
+    int increment(@Param("name") String name, @Param("delta") long delta);
+
+    // Each recount is a single statement, so it cannot lose an increment that commits while it runs.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update StatCounter c set c.value = "
+        + "(select count(u) from User u join u.roles r where r.name = :role and u.enabled = true) "
+        + "where c.name = :name")
+    int recountEnabledUsers(@Param("name") String name, @Param("role") RoleName role);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update StatCounter c set c.value = (select count(u) from User u where u.enabled = false) "
+        + "where c.name = :name")
+    int recountDisabledUsers(@Param("name") String name);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update StatCounter c set c.value = (select count(j) from Job j where j.status = :status) "
+        + "where c.name = :name")
+    int recountJobs(@Param("name") String name, @Param("status") JobStatus status);
+}
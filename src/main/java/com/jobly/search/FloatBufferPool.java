@@ -0,0 +1,35 @@
+package com.jobly.search;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Reusable float arrays for per-query scratch space (dense query vectors, score accumulators) that
+ * would otherwise be allocated at index size on every query; arrays that large are humongous objects
+ * under G1. Arrays are handed out zeroed, so callers must zero the entries they touched before
+ * releasing one. When the pool is empty a new array is allocated, and arrays beyond its capacity
+ * are left to the collector.
+ */
+final class FloatBufferPool {
+
+    private final BlockingQueue<float[]> buffers;
+
+    FloatBufferPool(int capacity) {
+        this.buffers = new ArrayBlockingQueue<>(capacity);
+    }
+
+    float[] acquire(int length) {
+        float[] buffer;
+        while ((buffer = buffers.poll()) != null) {
+            if (buffer.length >= length) {
+                return buffer;
+            }
+            // Outgrown by the index; dropped so the pool refills at the new size.
+        }
+        return new float[length + (length >> 3)];
+    }
+
+    void release(float[] buffer) {
+        buffers.offer(buffer);
+    }
+}
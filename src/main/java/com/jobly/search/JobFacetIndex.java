@@ -0,0 +1,461 @@
+package com.jobly.search;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jobly.dto.job.FacetCount;
+import com.jobly.dto.job.JobCursor;
+import com.jobly.dto.job.JobFacets;
+import com.jobly.dto.job.JobFilter;
+import com.jobly.dto.job.JobResponse;
+import com.jobly.event.JobChangedEvent;
+import com.jobly.model.Job;
+import com.jobly.model.enums.EmploymentType;
+import com.jobly.model.enums.JobStatus;
+import com.jobly.repository.JobRepository;
+
+/**
+ * Facet counts and filtered browsing over OPEN jobs.
+ *
+ * Each open job gets an int ordinal, and each facet value (employment type, normalized location,
+ * salary band) owns a bitset of ordinals. A filter is the AND of the selected values' bitsets.
+ * The counts for one facet come from the filter without that facet's own selection, so the
+ * alternatives stay visible. A rebuild fills a new index and swaps it in, so requests never see
+ * a partial one.
+ */
+@Component
+public class JobFacetIndex {
+
+    private enum Facet { EMPLOYMENT_TYPE, LOCATION, SALARY_BAND }
+
+    private static final int BUILD_BATCH_SIZE = 500;
+    private static final int MIN_DEAD_TO_COMPACT = 1024;
+
+    private final JobRepository jobRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock. While a rebuild runs, changes are applied here and also queued for the new index.
+    private Index index = new Index();
+    private List<Consumer<Index>> changesDuringRebuild;
+
+    public JobFacetIndex(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    /**
+     * Builds a fresh index from the database and swaps it in. Requests keep using the current index
+     * until then, and job changes made during the build are replayed onto the new one.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index rebuilt = null;
+        try {
+            rebuilt = load();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    for (Consumer<Index> change : changesDuringRebuild) {
+                        change.accept(rebuilt);
+                    }
+                    index = rebuilt;
+                }
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        JobResponse job = event.getJob();
+        if (job == null || !JobStatus.OPEN.name().equals(job.getStatus())) {
+            remove(event.getJobId());
+        } else {
+            index(job.getId(), job.getCreatedAt(), EmploymentType.valueOf(job.getEmploymentType()),
+                job.getLocation(), job.getSalaryMin(), job.getSalaryMax());
+        }
+    }
+
+    public void index(Long jobId, LocalDateTime createdAt, EmploymentType employmentType, String location,
+                      Integer salaryMin, Integer salaryMax) {
+        long sortKey = sortKey(createdAt);
+        SalaryBand band = SalaryBand.of(salaryMin, salaryMax);
+        apply(target -> target.add(jobId, sortKey, employmentType, location, band));
+    }
+
+    public void remove(Long jobId) {
+        apply(target -> target.remove(jobId));
+    }
+
+    public boolean matches(Long jobId, JobFilter filter) {
+        Selection selection = Selection.of(filter);
+        lock.readLock().lock();
+        try {
+            Index current = index;
+            Integer ordinal = current.ordinalByJobId.get(jobId);
+            return ordinal != null
+                && (selection.employmentType == null || selection.employmentType == current.employmentTypes[ordinal])
+                && (selection.location == null || selection.location.equals(current.locations[ordinal]))
+                && (selection.salaryBand == null || selection.salaryBand == current.salaryBands[ordinal]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} matching job ids, newest first, strictly after {@code after} when given.
+     */
+    public List<Long> page(JobFilter filter, JobCursor after, int limit) {
+        Selection selection = Selection.of(filter);
+        long afterKey = after != null ? sortKey(after.getCreatedAt()) : Long.MAX_VALUE;
+        long afterId = after != null ? after.getId() : Long.MAX_VALUE;
+
+        lock.readLock().lock();
+        try {
+            Index current = index;
+            long[] sortKeys = current.sortKeys;
+            long[] jobIds = current.jobIds;
+            long[] mask = current.mask(selection, null);
+            Comparator<Integer> oldestFirst = Comparator.<Integer>comparingLong(ordinal -> sortKeys[ordinal])
+                .thenComparingLong(ordinal -> jobIds[ordinal]);
+            PriorityQueue<Integer> newest = new PriorityQueue<>(limit + 1, oldestFirst);
+            for (int word = 0; word < mask.length; word++) {
+                long bits = mask[word];
+                while (bits != 0) {
+                    int ordinal = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    long key = sortKeys[ordinal];
+                    if (key < afterKey || (key == afterKey && jobIds[ordinal] < afterId)) {
+                        newest.offer(ordinal);
+                        if (newest.size() > limit) {
+                            newest.poll();
+                        }
+                    }
+                }
+            }
+
+            Long[] ids = new Long[newest.size()];
+            for (int i = ids.length - 1; i >= 0; i--) {
+                ids[i] = jobIds[newest.poll()];
+            }
+            return Arrays.asList(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public JobFacets facets(JobFilter filter, int maxLocations) {
+        Selection selection = Selection.of(filter);
+        lock.readLock().lock();
+        try {
+            Index current = index;
+            long[] typeMask = current.mask(selection, Facet.EMPLOYMENT_TYPE);
+            List<FacetCount> types = new ArrayList<>();
+            for (EmploymentType type : EmploymentType.values()) {
+                int count = countAnd(typeMask, current.byEmploymentType.get(type));
+                if (count > 0 || type == selection.employmentType) {
+                    types.add(new FacetCount(type.name(), type.name(), count, type == selection.employmentType));
+                }
+            }
+
+            long[] locationMask = current.mask(selection, Facet.LOCATION);
+            List<FacetCount> locationCounts = new ArrayList<>();
+            current.byLocation.forEach((key, bits) -> {
+                int count = countAnd(locationMask, bits);
+                if (count > 0 || key.equals(selection.location)) {
+                    locationCounts.add(new FacetCount(key, current.locationLabels.get(key), count, key.equals(selection.location)));
+                }
+            });
+            locationCounts.sort(Comparator.comparing(FacetCount::isSelected).reversed()
+                .thenComparing(Comparator.comparingInt(FacetCount::getCount).reversed())
+                .thenComparing(FacetCount::getLabel));
+
+            long[] bandMask = current.mask(selection, Facet.SALARY_BAND);
+            List<FacetCount> bands = new ArrayList<>();
+            for (SalaryBand band : SalaryBand.values()) {
+                int count = countAnd(bandMask, current.bySalaryBand.get(band));
+                if (count > 0 || band == selection.salaryBand) {
+                    bands.add(new FacetCount(band.name(), band.getLabel(), count, band == selection.salaryBand));
+                }
+            }
+
+            return new JobFacets(types, locationCounts.subList(0, Math.min(maxLocations, locationCounts.size())), bands);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static String normalizeLocation(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        return location.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private Index load() {
+        Index loaded = new Index();
+        PageRequest batch = PageRequest.of(0, BUILD_BATCH_SIZE);
+        List<Job> jobs = jobRepository.findFirstPageByStatus(JobStatus.OPEN, batch);
+        while (!jobs.isEmpty()) {
+            for (Job job : jobs) {
+                loaded.add(job.getId(), sortKey(job.getCreatedAt()), job.getEmploymentType(), job.getLocation(),
+                    SalaryBand.of(job.getSalaryMin(), job.getSalaryMax()));
+            }
+            Job last = jobs.get(jobs.size() - 1);
+            jobs = jobRepository.findPageByStatusAfter(JobStatus.OPEN, last.getCreatedAt(), last.getId(), batch);
+        }
+        return loaded;
+    }
+
+    private void apply(Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long sortKey(LocalDateTime createdAt) {
+        return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + createdAt.getNano() / 1_000;
+    }
+
+    private static void and(long[] mask, Bits bits) {
+        for (int word = 0; word < mask.length; word++) {
+            mask[word] &= bits != null && word < bits.words.length ? bits.words[word] : 0L;
+        }
+    }
+
+    private static int countAnd(long[] mask, Bits bits) {
+        if (bits == null) {
+            return 0;
+        }
+        int count = 0;
+        int words = Math.min(mask.length, bits.words.length);
+        for (int word = 0; word < words; word++) {
+            count += Long.bitCount(mask[word] & bits.words[word]);
+        }
+        return count;
+    }
+
+    private static final class Index {
+
+        private final Map<Long, Integer> ordinalByJobId = new HashMap<>();
+        private final Map<EmploymentType, Bits> byEmploymentType = new EnumMap<>(EmploymentType.class);
+        private final Map<String, Bits> byLocation = new HashMap<>();
+        private final Map<String, String> locationLabels = new HashMap<>();
+        private final Map<SalaryBand, Bits> bySalaryBand = new EnumMap<>(SalaryBand.class);
+        private Bits live = new Bits();
+        private long[] jobIds = new long[1024];
+        private long[] sortKeys = new long[1024];
+        private EmploymentType[] employmentTypes = new EmploymentType[1024];
+        private String[] locations = new String[1024];
+        private SalaryBand[] salaryBands = new SalaryBand[1024];
+        private int ordinalCount;
+        private int liveCount;
+
+        void add(Long jobId, long sortKey, EmploymentType employmentType, String location, SalaryBand band) {
+            String locationKey = normalizeLocation(location);
+            removeDocument(jobId);
+            if (locationKey != null) {
+                locationLabels.putIfAbsent(locationKey, location.trim());
+            }
+            addOrdinal(jobId, sortKey, employmentType, locationKey, band);
+        }
+
+        void remove(Long jobId) {
+            removeDocument(jobId);
+            if (ordinalCount - liveCount >= MIN_DEAD_TO_COMPACT && ordinalCount - liveCount > liveCount / 4) {
+                compact();
+            }
+        }
+
+        long[] mask(Selection selection, Facet ignored) {
+            long[] mask = Arrays.copyOf(live.words, live.words.length);
+            if (selection.employmentType != null && ignored != Facet.EMPLOYMENT_TYPE) {
+                and(mask, byEmploymentType.get(selection.employmentType));
+            }
+            if (selection.location != null && ignored != Facet.LOCATION) {
+                and(mask, byLocation.get(selection.location));
+            }
+            if (selection.salaryBand != null && ignored != Facet.SALARY_BAND) {
+                and(mask, bySalaryBand.get(selection.salaryBand));
+            }
+            return mask;
+        }
+
+        private void addOrdinal(Long jobId, long sortKey, EmploymentType employmentType, String locationKey, SalaryBand band) {
+            int ordinal = ordinalCount++;
+            ensureCapacity(ordinalCount);
+            jobIds[ordinal] = jobId;
+            sortKeys[ordinal] = sortKey;
+            employmentTypes[ordinal] = employmentType;
+            locations[ordinal] = locationKey;
+            salaryBands[ordinal] = band;
+            ordinalByJobId.put(jobId, ordinal);
+            live.set(ordinal);
+            byEmploymentType.computeIfAbsent(employmentType, key -> new Bits()).set(ordinal);
+            if (locationKey != null) {
+                byLocation.computeIfAbsent(locationKey, key -> new Bits()).set(ordinal);
+            }
+            bySalaryBand.computeIfAbsent(band, key -> new Bits()).set(ordinal);
+            liveCount++;
+        }
+
+        private void removeDocument(Long jobId) {
+            Integer ordinal = ordinalByJobId.remove(jobId);
+            if (ordinal == null) {
+                return;
+            }
+            live.clear(ordinal);
+            byEmploymentType.get(employmentTypes[ordinal]).clear(ordinal);
+            bySalaryBand.get(salaryBands[ordinal]).clear(ordinal);
+            String locationKey = locations[ordinal];
+            if (locationKey != null) {
+                Bits bits = byLocation.get(locationKey);
+                bits.clear(ordinal);
+                if (bits.isEmpty()) {
+                    byLocation.remove(locationKey);
+                    locationLabels.remove(locationKey);
+                }
+            }
+            locations[ordinal] = null;
+            liveCount--;
+        }
+
+        private void compact() {
+            int count = ordinalCount;
+            Bits oldLive = live;
+            long[] oldJobIds = jobIds;
+            long[] oldSortKeys = sortKeys;
+            EmploymentType[] oldTypes = employmentTypes;
+            String[] oldLocations = locations;
+            SalaryBand[] oldBands = salaryBands;
+
+            Map<String, String> labels = new HashMap<>(locationLabels);
+            reset();
+            locationLabels.putAll(labels);
+            for (int ordinal = 0; ordinal < count; ordinal++) {
+                if (oldLive.get(ordinal)) {
+                    addOrdinal(oldJobIds[ordinal], oldSortKeys[ordinal], oldTypes[ordinal], oldLocations[ordinal], oldBands[ordinal]);
+                }
+            }
+        }
+
+        private void reset() {
+            ordinalByJobId.clear();
+            byEmploymentType.clear();
+            byLocation.clear();
+            locationLabels.clear();
+            bySalaryBand.clear();
+            live = new Bits();
+            jobIds = new long[1024];
+            sortKeys = new long[1024];
+            employmentTypes = new EmploymentType[1024];
+            locations = new String[1024];
+            salaryBands = new SalaryBand[1024];
+            ordinalCount = 0;
+            liveCount = 0;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > jobIds.length) {
+                int grown = Math.max(capacity, jobIds.length * 2);
+                jobIds = Arrays.copyOf(jobIds, grown);
+                sortKeys = Arrays.copyOf(sortKeys, grown);
+                employmentTypes = Arrays.copyOf(employmentTypes, grown);
+                locations = Arrays.copyOf(locations, grown);
+                salaryBands = Arrays.copyOf(salaryBands, grown);
+            }
+        }
+    }
+
+    private record Selection(EmploymentType employmentType, String location, SalaryBand salaryBand) {
+
+        static Selection of(JobFilter filter) {
+            if (filter == null) {
+                return new Selection(null, null, null);
+            }
+            return new Selection(
+                parse(EmploymentType.class, filter.getEmploymentType()),
+                normalizeLocation(filter.getLocation()),
+                parse(SalaryBand.class, filter.getSalaryBand())
+            );
+        }
+
+        // Values come straight from query parameters; one that names no constant selects nothing.
+        private static <E extends Enum<E>> E parse(Class<E> type, String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                return Enum.valueOf(type, value);
+            } catch (IllegalArgumentException ex) {
+                return null;
+            }
+        }
+    }
+
+    private static final class Bits {
+
+        private long[] words = new long[16];
+
+        void set(int index) {
+            int word = index >>> 6;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+            }
+            words[word] |= 1L << index;
+        }
+
+        void clear(int index) {
+            int word = index >>> 6;
+            if (word < words.length) {
+                words[word] &= ~(1L << index);
+            }
+        }
+
+        boolean get(int index) {
+            int word = index >>> 6;
+            return word < words.length && (words[word] & (1L << index)) != 0;
+        }
+
+        boolean isEmpty() {
+            for (long word : words) {
+                if (word != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
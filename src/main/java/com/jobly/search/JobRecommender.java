@@ -0,0 +1,545 @@
+package com.jobly.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobly.dto.application.CandidateHistoryRow;
+import com.jobly.dto.job.JobResponse;
+import com.jobly.event.ApplicationSubmittedEvent;
+import com.jobly.event.JobChangedEvent;
+import com.jobly.model.Job;
+import com.jobly.model.enums.EmploymentType;
+import com.jobly.model.enums.JobStatus;
+import com.jobly.repository.JobApplicationRepository;
+import com.jobly.repository.JobRepository;
+
+/**
+ * Content-based recommendations of OPEN jobs for candidates, using hashed TF-IDF vectors.
+ *
+ * Terms from a job's title, location, employment type and description are hashed into
+ * {@link #DIMENSIONS} buckets, log-scaled and L2-normalised without IDF. A candidate's profile is
+ * the sum of the vectors of the jobs they applied to and of their cover letters; IDF is applied to
+ * the profile only when it is scored (SMART lnc.ltc), so document frequencies change incrementally
+ * without re-weighting stored vectors. Job vectors live in flat arrays addressed by ordinal and are
+ * scored in parallel chunks against a dense query array taken from a small pool and zeroed after use.
+ */
+@Component
+public class JobRecommender {
+
+    private static final Logger log = LoggerFactory.getLogger(JobRecommender.class);
+
+    static final int DIMENSIONS = 1 << 18;
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int EMPLOYMENT_TYPE_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final float COVER_LETTER_WEIGHT = 0.5f;
+
+    // Only the strongest buckets are kept, which bounds both memory and scoring cost per job.
+    private static final int MAX_JOB_FEATURES = 48;
+    private static final int MAX_QUERY_FEATURES = 256;
+    private static final int MAX_HISTORY = 200;
+    private static final int MAX_LIMIT = 100;
+    // Applications made through other nodes reach a cached profile only when it is reloaded.
+    private static final long PROFILE_TTL_MINUTES = 10;
+
+    private static final int SCORE_CHUNK_SIZE = 16_384;
+    // A dense query is DIMENSIONS floats (1 MB); this many are kept for reuse across requests.
+    private static final int QUERY_BUFFERS = 2 * Runtime.getRuntime().availableProcessors();
+    private static final int BUILD_BATCH_SIZE = 500;
+    private static final int MIN_DEAD_TO_COMPACT = 1024;
+
+    private final JobRepository jobRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Cache<Long, Profile> profiles = Caffeine.newBuilder()
+        .maximumSize(50_000)
+        .expireAfterWrite(PROFILE_TTL_MINUTES, TimeUnit.MINUTES)
+        .build();
+
+    // Guarded by lock. While a rebuild runs, changes are applied here and also queued for the new index.
+    private Index index = new Index();
+    private List<Consumer<Index>> changesDuringRebuild;
+    private final FloatBufferPool queryBuffers = new FloatBufferPool(QUERY_BUFFERS);
+
+    public JobRecommender(JobRepository jobRepository, JobApplicationRepository jobApplicationRepository) {
+        this.jobRepository = jobRepository;
+        this.jobApplicationRepository = jobApplicationRepository;
+    }
+
+    /**
+     * Builds a fresh index from the database and swaps it in. Recommendations keep using the current
+     * index until then, and job changes made during the build are replayed onto the new one.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index rebuilt = null;
+        try {
+            rebuilt = load();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    for (Consumer<Index> change : changesDuringRebuild) {
+                        change.accept(rebuilt);
+                    }
+                    index = rebuilt;
+                }
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        profiles.invalidateAll();
+        log.info("Job recommender built with {} open jobs", size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        JobResponse job = event.getJob();
+        if (job == null || !JobStatus.OPEN.name().equals(job.getStatus())) {
+            remove(event.getJobId());
+        } else {
+            index(job.getId(), job.getTitle(), job.getDescription(), job.getLocation(),
+                EmploymentType.valueOf(job.getEmploymentType()));
+        }
+    }
+
+    /**
+     * Folds a new application made through this node into the candidate's cached profile. Profiles
+     * not in the cache are built from the database on their next use and already include it.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+        Vector job = jobVector(event.getJobId());
+        Vector coverLetter = vectorOf(textFrequencies(event.getCoverLetter()));
+        profiles.asMap().computeIfPresent(event.getCandidateId(),
+            (candidateId, profile) -> profile.plus(event.getJobId(), job, coverLetter));
+    }
+
+    public void index(Long jobId, String title, String description, String location, EmploymentType employmentType) {
+        Vector vector = vectorOf(jobFrequencies(title, description, location, employmentType));
+        apply(target -> target.add(jobId, vector));
+    }
+
+    public void remove(Long jobId) {
+        apply(target -> target.remove(jobId));
+    }
+
+    /**
+     * Returns the ids of the open jobs closest to the candidate's history, best first, leaving out
+     * jobs they already applied to. The ranking is checked against the database, so a cached profile
+     * that missed an application made through another node is reloaded rather than served.
+     */
+    public List<Long> recommend(Long candidateId, int limit) {
+        List<Long> ranked = recommend(profiles.get(candidateId, this::loadProfile), limit);
+        if (ranked.isEmpty() || jobApplicationRepository.findAppliedJobIds(candidateId, ranked).isEmpty()) {
+            return ranked;
+        }
+        Profile reloaded = loadProfile(candidateId);
+        profiles.put(candidateId, reloaded);
+        return recommend(reloaded, limit);
+    }
+
+    public Profile profileOf(List<CandidateHistoryRow> history) {
+        Map<Integer, Float> profileWeights = new HashMap<>();
+        Set<Long> appliedJobIds = new HashSet<>();
+        for (CandidateHistoryRow row : history) {
+            appliedJobIds.add(row.getJobId());
+            Vector job = vectorOf(jobFrequencies(row.getTitle(), row.getDescription(), row.getLocation(),
+                row.getEmploymentType()));
+            job.addTo(profileWeights, 1f);
+            vectorOf(textFrequencies(row.getCoverLetter())).addTo(profileWeights, COVER_LETTER_WEIGHT);
+        }
+        return new Profile(Map.copyOf(profileWeights), Set.copyOf(appliedJobIds));
+    }
+
+    public List<Long> recommend(Profile profile, int limit) {
+        int wanted = Math.min(limit, MAX_LIMIT);
+        if (wanted < 1 || profile.weights().isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Index current = index;
+            if (current.liveCount == 0) {
+                return List.of();
+            }
+            float[] query = queryBuffers.acquire(DIMENSIONS);
+            int[] queryFeatures = current.fillQuery(profile, query);
+            TopK best;
+            try {
+                int chunks = (current.ordinalCount + SCORE_CHUNK_SIZE - 1) / SCORE_CHUNK_SIZE;
+                IntStream range = IntStream.range(0, chunks);
+                // Workers only read; the read lock held by this thread keeps writers out until they finish.
+                best = (chunks > 1 ? range.parallel() : range)
+                    .mapToObj(chunk -> current.score(query, profile.appliedJobIds(), chunk, wanted))
+                    .reduce(TopK::merge)
+                    .orElseGet(() -> new TopK(wanted));
+            } finally {
+                for (int feature : queryFeatures) {
+                    query[feature] = 0;
+                }
+                queryBuffers.release(query);
+            }
+            List<Long> ranked = new ArrayList<>(best.size);
+            for (int i = 0; i < best.size; i++) {
+                ranked.add(current.jobIds[best.ordinals[i]]);
+            }
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Index load() {
+        Index loaded = new Index();
+        PageRequest batch = PageRequest.of(0, BUILD_BATCH_SIZE);
+        List<Job> jobs = jobRepository.findFirstPageByStatus(JobStatus.OPEN, batch);
+        while (!jobs.isEmpty()) {
+            for (Job job : jobs) {
+                loaded.add(job.getId(), vectorOf(jobFrequencies(job.getTitle(), job.getDescription(),
+                    job.getLocation(), job.getEmploymentType())));
+            }
+            Job last = jobs.get(jobs.size() - 1);
+            jobs = jobRepository.findPageByStatusAfter(JobStatus.OPEN, last.getCreatedAt(), last.getId(), batch);
+        }
+        return loaded;
+    }
+
+    private Profile loadProfile(Long candidateId) {
+        return profileOf(jobApplicationRepository.findHistoryByCandidateId(candidateId, PageRequest.ofSize(MAX_HISTORY)));
+    }
+
+    private Vector jobVector(Long jobId) {
+        lock.readLock().lock();
+        try {
+            return index.vector(jobId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Map<Integer, Float> jobFrequencies(String title, String description, String location,
+                                                      EmploymentType employmentType) {
+        Map<Integer, Float> frequencies = new HashMap<>();
+        addTerms(frequencies, title, TITLE_WEIGHT);
+        addTerms(frequencies, location, LOCATION_WEIGHT);
+        addTerms(frequencies, description, DESCRIPTION_WEIGHT);
+        if (employmentType != null) {
+            frequencies.merge(bucket("employment_type=" + employmentType.name()), (float) EMPLOYMENT_TYPE_WEIGHT, Float::sum);
+        }
+        return frequencies;
+    }
+
+    private static Map<Integer, Float> textFrequencies(String text) {
+        Map<Integer, Float> frequencies = new HashMap<>();
+        addTerms(frequencies, text, 1);
+        return frequencies;
+    }
+
+    private static void addTerms(Map<Integer, Float> frequencies, String text, int weight) {
+        for (String term : Tokenizer.tokenize(text)) {
+            frequencies.merge(bucket(term), (float) weight, Float::sum);
+        }
+    }
+
+    static int bucket(String term) {
+        int hash = term.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (DIMENSIONS - 1);
+    }
+
+    /** Log-scales frequencies, keeps the strongest {@link #MAX_JOB_FEATURES} and L2-normalises them. */
+    private static Vector vectorOf(Map<Integer, Float> frequencies) {
+        if (frequencies.isEmpty()) {
+            return Vector.EMPTY;
+        }
+        List<Map.Entry<Integer, Float>> entries = new ArrayList<>(frequencies.entrySet());
+        entries.sort(Map.Entry.<Integer, Float>comparingByValue().reversed());
+        int size = Math.min(entries.size(), MAX_JOB_FEATURES);
+        int[] vectorFeatures = new int[size];
+        float[] vectorWeights = new float[size];
+        double norm = 0;
+        for (int i = 0; i < size; i++) {
+            vectorFeatures[i] = entries.get(i).getKey();
+            vectorWeights[i] = 1 + (float) Math.log(entries.get(i).getValue());
+            norm += (double) vectorWeights[i] * vectorWeights[i];
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < size; i++) {
+            vectorWeights[i] *= scale;
+        }
+        return new Vector(vectorFeatures, vectorWeights);
+    }
+
+    /**
+     * Job vectors in flat arrays addressed by ordinal (CSR layout), with the document frequency of
+     * every bucket. Removed ordinals are marked dead and squeezed out once they pass a quarter of
+     * the live ones.
+     */
+    private static final class Index {
+
+        private final Map<Long, Integer> ordinalByJobId = new HashMap<>();
+        private final int[] documentFrequencies = new int[DIMENSIONS];
+        private final BitSet dead = new BitSet();
+        private long[] jobIds = new long[1024];
+        private int[] starts = new int[1025];
+        private int[] features = new int[16 * 1024];
+        private float[] weights = new float[16 * 1024];
+        private int ordinalCount;
+        private int liveCount;
+
+        void add(Long jobId, Vector vector) {
+            remove(jobId);
+            int ordinal = ordinalCount++;
+            int start = starts[ordinal];
+            ensureCapacity(ordinalCount, start + vector.size());
+            jobIds[ordinal] = jobId;
+            System.arraycopy(vector.features(), 0, features, start, vector.size());
+            System.arraycopy(vector.weights(), 0, weights, start, vector.size());
+            starts[ordinal + 1] = start + vector.size();
+            for (int feature : vector.features()) {
+                documentFrequencies[feature]++;
+            }
+            ordinalByJobId.put(jobId, ordinal);
+            liveCount++;
+        }
+
+        void remove(Long jobId) {
+            Integer ordinal = ordinalByJobId.remove(jobId);
+            if (ordinal == null) {
+                return;
+            }
+            dead.set(ordinal);
+            liveCount--;
+            for (int i = starts[ordinal]; i < starts[ordinal + 1]; i++) {
+                documentFrequencies[features[i]]--;
+            }
+            int deadCount = ordinalCount - liveCount;
+            if (deadCount >= MIN_DEAD_TO_COMPACT && deadCount > liveCount / 4) {
+                compact();
+            }
+        }
+
+        Vector vector(Long jobId) {
+            Integer ordinal = ordinalByJobId.get(jobId);
+            if (ordinal == null) {
+                return Vector.EMPTY;
+            }
+            return new Vector(Arrays.copyOfRange(features, starts[ordinal], starts[ordinal + 1]),
+                Arrays.copyOfRange(weights, starts[ordinal], starts[ordinal + 1]));
+        }
+
+        /**
+         * Applies IDF to the profile, keeps its strongest {@link #MAX_QUERY_FEATURES} buckets and
+         * writes them L2-normalised into the zeroed {@code query}. Returns the buckets written, so the
+         * caller can zero them again.
+         */
+        int[] fillQuery(Profile profile, float[] query) {
+            List<Map.Entry<Integer, Float>> entries = new ArrayList<>(profile.weights().size());
+            float[] weighted = new float[profile.weights().size()];
+            for (Map.Entry<Integer, Float> entry : profile.weights().entrySet()) {
+                int documentFrequency = documentFrequencies[entry.getKey()];
+                if (documentFrequency > 0) {
+                    float idf = (float) Math.log((1.0 + liveCount) / documentFrequency);
+                    if (idf > 0) {
+                        weighted[entries.size()] = entry.getValue() * idf;
+                        entries.add(entry);
+                    }
+                }
+            }
+            Integer[] order = new Integer[entries.size()];
+            Arrays.setAll(order, i -> i);
+            Arrays.sort(order, (left, right) -> Float.compare(weighted[right], weighted[left]));
+
+            int kept = Math.min(order.length, MAX_QUERY_FEATURES);
+            int[] written = new int[kept];
+            double norm = 0;
+            for (int i = 0; i < kept; i++) {
+                norm += (double) weighted[order[i]] * weighted[order[i]];
+            }
+            float scale = norm > 0 ? (float) (1 / Math.sqrt(norm)) : 0;
+            for (int i = 0; i < kept; i++) {
+                written[i] = entries.get(order[i]).getKey();
+                query[written[i]] = weighted[order[i]] * scale;
+            }
+            return written;
+        }
+
+        TopK score(float[] query, Set<Long> excluded, int chunk, int limit) {
+            TopK best = new TopK(limit);
+            int end = Math.min(ordinalCount, (chunk + 1) * SCORE_CHUNK_SIZE);
+            for (int ordinal = chunk * SCORE_CHUNK_SIZE; ordinal < end; ordinal++) {
+                if (dead.get(ordinal)) {
+                    continue;
+                }
+                float score = 0;
+                for (int i = starts[ordinal]; i < starts[ordinal + 1]; i++) {
+                    score += query[features[i]] * weights[i];
+                }
+                if (score > 0 && best.accepts(score, ordinal) && !excluded.contains(jobIds[ordinal])) {
+                    best.offer(score, ordinal);
+                }
+            }
+            return best;
+        }
+
+        private void ensureCapacity(int ordinals, int featureCount) {
+            if (ordinals > jobIds.length) {
+                int grown = Math.max(ordinals, jobIds.length * 2);
+                jobIds = Arrays.copyOf(jobIds, grown);
+                starts = Arrays.copyOf(starts, grown + 1);
+            }
+            if (featureCount > features.length) {
+                int grown = Math.max(featureCount, features.length * 2);
+                features = Arrays.copyOf(features, grown);
+                weights = Arrays.copyOf(weights, grown);
+            }
+        }
+
+        private void compact() {
+            int next = 0;
+            int nextFeature = 0;
+            for (int ordinal = 0; ordinal < ordinalCount; ordinal++) {
+                if (dead.get(ordinal)) {
+                    continue;
+                }
+                int start = starts[ordinal];
+                int length = starts[ordinal + 1] - start;
+                System.arraycopy(features, start, features, nextFeature, length);
+                System.arraycopy(weights, start, weights, nextFeature, length);
+                jobIds[next] = jobIds[ordinal];
+                starts[next] = nextFeature;
+                ordinalByJobId.put(jobIds[next], next);
+                nextFeature += length;
+                next++;
+            }
+            starts[next] = nextFeature;
+            dead.clear();
+            ordinalCount = next;
+        }
+    }
+
+    private record Vector(int[] features, float[] weights) {
+
+        static final Vector EMPTY = new Vector(new int[0], new float[0]);
+
+        int size() {
+            return features.length;
+        }
+
+        void addTo(Map<Integer, Float> target, float scale) {
+            for (int i = 0; i < features.length; i++) {
+                target.merge(features[i], weights[i] * scale, Float::sum);
+            }
+        }
+    }
+
+    /**
+     * A candidate's interests as summed job and cover letter vectors, plus the jobs they already
+     * applied to. Immutable; a new application produces a new profile.
+     */
+    public record Profile(Map<Integer, Float> weights, Set<Long> appliedJobIds) {
+
+        Profile plus(Long jobId, Vector job, Vector coverLetter) {
+            Map<Integer, Float> combined = new HashMap<>(weights);
+            job.addTo(combined, 1f);
+            coverLetter.addTo(combined, COVER_LETTER_WEIGHT);
+            Set<Long> applied = new HashSet<>(appliedJobIds);
+            applied.add(jobId);
+            return new Profile(Map.copyOf(combined), Set.copyOf(applied));
+        }
+    }
+
+    /** The best {@code limit} ordinals seen so far, best first; newer ordinals win ties. */
+    private static final class TopK {
+
+        private final int[] ordinals;
+        private final float[] scores;
+        private int size;
+
+        TopK(int limit) {
+            ordinals = new int[limit];
+            scores = new float[limit];
+        }
+
+        boolean accepts(float score, int ordinal) {
+            return size < ordinals.length || beats(score, ordinal, size - 1);
+        }
+
+        void offer(float score, int ordinal) {
+            if (!accepts(score, ordinal)) {
+                return;
+            }
+            int i = size < ordinals.length ? size++ : size - 1;
+            while (i > 0 && beats(score, ordinal, i - 1)) {
+                ordinals[i] = ordinals[i - 1];
+                scores[i] = scores[i - 1];
+                i--;
+            }
+            ordinals[i] = ordinal;
+            scores[i] = score;
+        }
+
+        TopK merge(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.scores[i], other.ordinals[i]);
+            }
+            return this;
+        }
+
+        private boolean beats(float score, int ordinal, int position) {
+            return score > scores[position] || (score == scores[position] && ordinal > ordinals[position]);
+        }
+    }
+}
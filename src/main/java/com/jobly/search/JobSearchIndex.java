@@ -0,0 +1,393 @@
+package com.jobly.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jobly.dto.job.JobResponse;
+import com.jobly.event.JobChangedEvent;
+import com.jobly.model.Job;
+import com.jobly.model.enums.JobStatus;
+import com.jobly.repository.JobRepository;
+
+/**
+ * In-process inverted index over OPEN jobs, ranked with BM25.
+ *
+ * Every indexed job gets a dense int ordinal. Posting lists store ordinals and weighted term
+ * frequencies in parallel int arrays, appended in ordinal order, plus a live count used as the
+ * document frequency. Removed jobs are tombstoned and the whole index is renumbered once
+ * tombstones exceed a quarter of the live documents. A rebuild fills a new index and swaps it in,
+ * so searches never see a partial one.
+ */
+@Component
+public class JobSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(JobSearchIndex.class);
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int COMPANY_WEIGHT = 2;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final int BUILD_BATCH_SIZE = 500;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1024;
+    private static final int SCORE_BUFFERS = 2 * Runtime.getRuntime().availableProcessors();
+
+    private final JobRepository jobRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final FloatBufferPool scoreBuffers = new FloatBufferPool(SCORE_BUFFERS);
+
+    // Guarded by lock. While a rebuild runs, changes are applied here and also queued for the new index.
+    private Index index = new Index();
+    private List<Consumer<Index>> changesDuringRebuild;
+
+    public JobSearchIndex(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    /**
+     * Builds a fresh index from the database and swaps it in. Searches keep using the current index
+     * until then, and job changes made during the build are replayed onto the new one.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index rebuilt = null;
+        try {
+            rebuilt = load();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    for (Consumer<Index> change : changesDuringRebuild) {
+                        change.accept(rebuilt);
+                    }
+                    index = rebuilt;
+                }
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Job search index built with {} open jobs and {} terms", size(), termCount());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        JobResponse job = event.getJob();
+        if (job == null || !JobStatus.OPEN.name().equals(job.getStatus())) {
+            remove(event.getJobId());
+        } else {
+            index(job.getId(), job.getTitle(), job.getDescription(), job.getLocation(), job.getCompanyName());
+        }
+    }
+
+    public void index(Long jobId, String title, String description, String location, String companyName) {
+        Document document = document(title, description, location, companyName);
+        apply(target -> target.add(jobId, document));
+    }
+
+    public void remove(Long jobId) {
+        apply(target -> target.remove(jobId));
+    }
+
+    public List<Long> search(String query, int limit) {
+        return search(query, limit, jobId -> true);
+    }
+
+    /**
+     * Returns the ids of the best matching open jobs accepted by {@code filter}, highest BM25 score first.
+     */
+    public List<Long> search(String query, int limit, LongPredicate filter) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Index current = index;
+            if (current.liveDocs == 0) {
+                return List.of();
+            }
+            float averageLength = (float) current.liveLength / current.liveDocs;
+            // Scores by ordinal, from the pool; only the touched entries are written and zeroed again.
+            float[] scores = scoreBuffers.acquire(current.ordinalCount);
+            int[] touched = new int[Math.min(current.ordinalCount, 64)];
+            int touchedCount = 0;
+            try {
+                for (String term : terms) {
+                    Postings termPostings = current.postings.get(term);
+                    if (termPostings == null) {
+                        continue;
+                    }
+                    float idf = (float) Math.log(1 + (current.liveDocs - termPostings.live + 0.5) / (termPostings.live + 0.5));
+                    for (int i = 0; i < termPostings.size; i++) {
+                        int ordinal = termPostings.ordinals[i];
+                        if (current.tombstones.get(ordinal)) {
+                            continue;
+                        }
+                        int frequency = termPostings.frequencies[i];
+                        float norm = K1 * (1 - B + B * current.docLengths[ordinal] / averageLength);
+                        if (scores[ordinal] == 0) {
+                            if (touchedCount == touched.length) {
+                                touched = Arrays.copyOf(touched, Math.min(current.ordinalCount, touched.length * 2));
+                            }
+                            touched[touchedCount++] = ordinal;
+                        }
+                        scores[ordinal] += idf * frequency * (K1 + 1) / (frequency + norm);
+                    }
+                }
+
+                // Min-heap of the best `limit` ordinals; most recently indexed jobs win ties.
+                PriorityQueue<Integer> best = new PriorityQueue<>(Math.min(limit, touchedCount) + 1, (left, right) -> {
+                    int byScore = Float.compare(scores[left], scores[right]);
+                    return byScore != 0 ? byScore : Integer.compare(left, right);
+                });
+                for (int i = 0; i < touchedCount; i++) {
+                    if (!filter.test(current.jobIds[touched[i]])) {
+                        continue;
+                    }
+                    best.offer(touched[i]);
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+
+                Long[] ranked = new Long[best.size()];
+                for (int i = ranked.length - 1; i >= 0; i--) {
+                    ranked[i] = current.jobIds[best.poll()];
+                }
+                return Arrays.asList(ranked);
+            } finally {
+                for (int i = 0; i < touchedCount; i++) {
+                    scores[touched[i]] = 0;
+                }
+                scoreBuffers.release(scores);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return index.postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Index load() {
+        Index loaded = new Index();
+        PageRequest batch = PageRequest.of(0, BUILD_BATCH_SIZE);
+        List<Job> jobs = jobRepository.findFirstPageByStatus(JobStatus.OPEN, batch);
+        while (!jobs.isEmpty()) {
+            for (Job job : jobs) {
+                loaded.add(job.getId(), document(job.getTitle(), job.getDescription(), job.getLocation(),
+                    job.getCompany() != null ? job.getCompany().getName() : null));
+            }
+            Job last = jobs.get(jobs.size() - 1);
+            jobs = jobRepository.findPageByStatusAfter(JobStatus.OPEN, last.getCreatedAt(), last.getId(), batch);
+        }
+        return loaded;
+    }
+
+    private void apply(Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Document document(String title, String description, String location, String companyName) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = addField(frequencies, title, TITLE_WEIGHT)
+            + addField(frequencies, companyName, COMPANY_WEIGHT)
+            + addField(frequencies, location, LOCATION_WEIGHT)
+            + addField(frequencies, description, DESCRIPTION_WEIGHT);
+        return new Document(frequencies, length);
+    }
+
+    private static int addField(Map<String, Integer> frequencies, String text, int weight) {
+        List<String> terms = Tokenizer.tokenize(text);
+        for (String term : terms) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+        return terms.size() * weight;
+    }
+
+    private record Document(Map<String, Integer> frequencies, int length) {
+    }
+
+    private static final class Index {
+
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final Map<Long, Integer> ordinalByJobId = new HashMap<>();
+        private final BitSet tombstones = new BitSet();
+        private long[] jobIds = new long[1024];
+        private int[] docLengths = new int[1024];
+        private Postings[][] termsByOrdinal = new Postings[1024][];
+        private int ordinalCount;
+        private int liveDocs;
+        private long liveLength;
+
+        void add(Long jobId, Document document) {
+            removeDocument(jobId);
+            int ordinal = ordinalCount++;
+            ensureCapacity(ordinalCount);
+            jobIds[ordinal] = jobId;
+            docLengths[ordinal] = document.length();
+            ordinalByJobId.put(jobId, ordinal);
+            liveDocs++;
+            liveLength += document.length();
+            Postings[] terms = new Postings[document.frequencies().size()];
+            int next = 0;
+            for (Map.Entry<String, Integer> entry : document.frequencies().entrySet()) {
+                Postings termPostings = postings.computeIfAbsent(entry.getKey(), key -> new Postings());
+                termPostings.add(ordinal, entry.getValue());
+                terms[next++] = termPostings;
+            }
+            termsByOrdinal[ordinal] = terms;
+            compactIfNeeded();
+        }
+
+        void remove(Long jobId) {
+            removeDocument(jobId);
+            compactIfNeeded();
+        }
+
+        private void removeDocument(Long jobId) {
+            Integer ordinal = ordinalByJobId.remove(jobId);
+            if (ordinal == null) {
+                return;
+            }
+            tombstones.set(ordinal);
+            liveDocs--;
+            liveLength -= docLengths[ordinal];
+            for (Postings termPostings : termsByOrdinal[ordinal]) {
+                termPostings.live--;
+            }
+            termsByOrdinal[ordinal] = null;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > jobIds.length) {
+                int grown = Math.max(capacity, jobIds.length * 2);
+                jobIds = Arrays.copyOf(jobIds, grown);
+                docLengths = Arrays.copyOf(docLengths, grown);
+                termsByOrdinal = Arrays.copyOf(termsByOrdinal, grown);
+            }
+        }
+
+        private void compactIfNeeded() {
+            int tombstoneCount = tombstones.cardinality();
+            if (tombstoneCount >= MIN_TOMBSTONES_TO_COMPACT && tombstoneCount > liveDocs / 4) {
+                compact();
+            }
+        }
+
+        private void compact() {
+            int[] remap = new int[ordinalCount];
+            int next = 0;
+            for (int ordinal = 0; ordinal < ordinalCount; ordinal++) {
+                if (tombstones.get(ordinal)) {
+                    remap[ordinal] = -1;
+                    continue;
+                }
+                remap[ordinal] = next;
+                jobIds[next] = jobIds[ordinal];
+                docLengths[next] = docLengths[ordinal];
+                termsByOrdinal[next] = termsByOrdinal[ordinal];
+                ordinalByJobId.put(jobIds[next], next);
+                next++;
+            }
+
+            Iterator<Postings> iterator = postings.values().iterator();
+            while (iterator.hasNext()) {
+                Postings termPostings = iterator.next();
+                termPostings.remap(remap);
+                if (termPostings.size == 0) {
+                    iterator.remove();
+                }
+            }
+            Arrays.fill(termsByOrdinal, next, ordinalCount, null);
+            tombstones.clear();
+            ordinalCount = next;
+        }
+    }
+
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+        private int live;
+
+        void add(int ordinal, int frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = frequency;
+            size++;
+            live++;
+        }
+
+        void remap(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int mapped = remap[ordinals[i]];
+                if (mapped >= 0) {
+                    ordinals[kept] = mapped;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.jobly.search;
+
+public enum SalaryBand {
+    UNDER_50K("Under 50k"),
+    FROM_50K_TO_100K("50k - 100k"),
+    FROM_100K_TO_150K("100k - 150k"),
+    OVER_150K("150k+"),
+    NOT_DISCLOSED("Not disclosed");
+
+    private final String label;
+
+    SalaryBand(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Places a posting by the midpoint of whatever part of its range is disclosed.
+     */
+    public static SalaryBand of(Integer salaryMin, Integer salaryMax) {
+        if (salaryMin == null && salaryMax == null) {
+            return NOT_DISCLOSED;
+        }
+        long low = salaryMin != null ? salaryMin : salaryMax;
+        long high = salaryMax != null ? salaryMax : salaryMin;
+        long midpoint = (low + high) / 2;
+        if (midpoint < 50_000) {
+            return UNDER_50K;
+        }
+        if (midpoint < 100_000) {
+            return FROM_50K_TO_100K;
+        }
+        if (midpoint < 150_000) {
+            return FROM_100K_TO_150K;
+        }
+        return OVER_150K;
+    }
+}
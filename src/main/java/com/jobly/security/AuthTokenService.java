@@ -0,0 +1,169 @@
+package com.jobly.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Issues and verifies the signed session token used in stateless mode.
+ *
+ * A token is {@code kid.payload.signature}: the payload carries the {@link UserPrincipal} fields,
+ * a token id and issue/expiry times, signed with HMAC-SHA256 under the key named by {@code kid}.
+ * New tokens are signed with the active key while every configured key still verifies, so keys
+ * can be rotated by adding the new one, switching the active id, and dropping the old one after
+ * one TTL.
+ */
+@Component
+public class AuthTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final char FIELD_SEPARATOR = '\u001f';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Map<String, SecretKeySpec> keys = new HashMap<>();
+    private final String activeKeyId;
+    private final Duration ttl;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    @Autowired
+    public AuthTokenService(@Value("${jobly.auth.token.keys:}") String keys,
+                            @Value("${jobly.auth.token.active-key:}") String activeKeyId,
+                            @Value("${jobly.auth.token.ttl:15m}") Duration ttl) {
+        this(keys, activeKeyId, ttl, Clock.systemUTC());
+    }
+
+    AuthTokenService(String keys, String activeKeyId, Duration ttl, Clock clock) {
+        for (String entry : keys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.trim().split(":", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Token keys must be configured as id:base64secret");
+            }
+            byte[] secret = Base64.getDecoder().decode(parts[1]);
+            if (secret.length < 32) {
+                throw new IllegalArgumentException("Token key " + parts[0] + " must be at least 256 bits");
+            }
+            this.keys.put(parts[0], new SecretKeySpec(secret, ALGORITHM));
+        }
+        this.activeKeyId = activeKeyId;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Fails fast when stateless mode is switched on without a usable signing key.
+     */
+    public void requireSigningKey() {
+        if (!keys.containsKey(activeKeyId)) {
+            throw new IllegalStateException("jobly.auth.token.active-key must name one of jobly.auth.token.keys");
+        }
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public AuthToken issue(UserPrincipal principal) {
+        byte[] id = new byte[16];
+        random.nextBytes(id);
+        Instant issuedAt = clock.instant();
+        AuthToken token = new AuthToken(null, ENCODER.encodeToString(id), principal, issuedAt, issuedAt.plus(ttl));
+        String payload = ENCODER.encodeToString(serialize(token).getBytes(StandardCharsets.UTF_8));
+        String signed = activeKeyId + "." + payload;
+        return token.withValue(signed + "." + ENCODER.encodeToString(sign(keys.get(activeKeyId), signed)));
+    }
+
+    /**
+     * Returns the token if its signature checks out under a known key and it has not expired.
+     */
+    public Optional<AuthToken> verify(String value) {
+        int firstDot = value.indexOf('.');
+        int lastDot = value.lastIndexOf('.');
+        if (firstDot < 1 || lastDot == firstDot) {
+            return Optional.empty();
+        }
+        SecretKeySpec key = keys.get(value.substring(0, firstDot));
+        if (key == null) {
+            return Optional.empty();
+        }
+        try {
+            byte[] expected = sign(key, value.substring(0, lastDot));
+            byte[] actual = DECODER.decode(value.substring(lastDot + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return Optional.empty();
+            }
+            String payload = new String(DECODER.decode(value.substring(firstDot + 1, lastDot)), StandardCharsets.UTF_8);
+            AuthToken token = deserialize(payload).withValue(value);
+            return token.expiresAt().isAfter(clock.instant()) ? Optional.of(token) : Optional.empty();
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Past half of its lifetime a token is reissued, so active users are not logged out at expiry.
+     */
+    public boolean shouldRefresh(AuthToken token) {
+        return clock.instant().isAfter(token.issuedAt().plus(ttl.dividedBy(2)));
+    }
+
+    private static String serialize(AuthToken token) {
+        UserPrincipal principal = token.principal();
+        return String.join(String.valueOf(FIELD_SEPARATOR),
+            token.tokenId(),
+            String.valueOf(principal.id()),
+            principal.email(),
+            principal.fullName() != null ? principal.fullName() : "",
+            String.valueOf(principal.roleMask()),
+            String.valueOf(principal.enabled()),
+            String.valueOf(token.issuedAt().getEpochSecond()),
+            String.valueOf(token.expiresAt().getEpochSecond()));
+    }
+
+    private static AuthToken deserialize(String payload) {
+        String[] fields = payload.split(String.valueOf(FIELD_SEPARATOR), -1);
+        if (fields.length != 8) {
+            throw new IllegalArgumentException("Malformed token");
+        }
+        UserPrincipal principal = new UserPrincipal(Long.valueOf(fields[1]), fields[2], fields[3],
+            Integer.parseInt(fields[4]), Boolean.parseBoolean(fields[5]));
+        return new AuthToken(null, fields[0], principal,
+            Instant.ofEpochSecond(Long.parseLong(fields[6])), Instant.ofEpochSecond(Long.parseLong(fields[7])));
+    }
+
+    private static byte[] sign(SecretKeySpec key, String content) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(content.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Cannot sign auth token", ex);
+        }
+    }
+
+    public record AuthToken(String value, String tokenId, UserPrincipal principal, Instant issuedAt, Instant expiresAt) {
+
+        AuthToken withValue(String value) {
+            return new AuthToken(value, tokenId, principal, issuedAt, expiresAt);
+        }
+    }
+}
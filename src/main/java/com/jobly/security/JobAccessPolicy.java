@@ -0,0 +1,111 @@
+package com.jobly.security;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobly.dto.job.JobResponse;
+import com.jobly.event.JobChangedEvent;
+import com.jobly.model.Job;
+import com.jobly.model.Role.RoleName;
+import com.jobly.repository.JobRepository;
+
+/**
+ * Decides whether a user may manage a job: its poster or a super admin.
+ *
+ * Prefers state the caller already holds (a loaded job or its response). Otherwise it falls back
+ * to a bounded jobId to posterId cache, and finally to a single-column lookup. Decisions by id are
+ * also memoized for the current request.
+ */
+@Component
+public class JobAccessPolicy {
+
+    private static final String REQUEST_MEMO = JobAccessPolicy.class.getName() + ".memo";
+
+    private final JobRepository jobRepository;
+    private final Cache<Long, Long> posterIdByJobId = Caffeine.newBuilder()
+        .maximumSize(100_000)
+        .build();
+
+    public JobAccessPolicy(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    public boolean canManage(UserPrincipal requester, Job job) {
+        // The poster's id comes from the foreign key, so this never initializes the association.
+        Long posterId = job.getPostedBy() != null ? job.getPostedBy().getId() : null;
+        rememberPoster(job.getId(), posterId);
+        return decide(requester, posterId);
+    }
+
+    public boolean canManage(UserPrincipal requester, JobResponse job) {
+        rememberPoster(job.getId(), job.getPostedById());
+        return decide(requester, job.getPostedById());
+    }
+
+    public boolean canManage(UserPrincipal requester, Long jobId) {
+        if (requester.hasRole(RoleName.ROLE_SUPER_ADMIN)) {
+            return true;
+        }
+        Map<MemoKey, Boolean> memo = requestMemo();
+        MemoKey key = new MemoKey(requester.id(), jobId);
+        Boolean memoized = memo != null ? memo.get(key) : null;
+        if (memoized != null) {
+            return memoized;
+        }
+
+        Long posterId = posterIdByJobId.getIfPresent(jobId);
+        if (posterId == null) {
+            posterId = jobRepository.findPostedByIdById(jobId).orElse(null);
+            rememberPoster(jobId, posterId);
+        }
+        boolean allowed = decide(requester, posterId);
+        if (memo != null) {
+            memo.put(key, allowed);
+        }
+        return allowed;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.isDeleted()) {
+            posterIdByJobId.invalidate(event.getJobId());
+        } else {
+            rememberPoster(event.getJobId(), event.getJob().getPostedById());
+        }
+    }
+
+    private boolean decide(UserPrincipal requester, Long posterId) {
+        boolean isPoster = posterId != null && posterId.equals(requester.id());
+        return isPoster || requester.hasRole(RoleName.ROLE_SUPER_ADMIN);
+    }
+
+    private void rememberPoster(Long jobId, Long posterId) {
+        if (jobId != null && posterId != null) {
+            posterIdByJobId.put(jobId, posterId);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<MemoKey, Boolean> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object memo = attributes.getAttribute(REQUEST_MEMO, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<MemoKey, Boolean>();
+            attributes.setAttribute(REQUEST_MEMO, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<MemoKey, Boolean>) memo;
+    }
+
+    private record MemoKey(Long requesterId, Long jobId) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.jobly.security;
+
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Checks the password against the full {@link CustomUserDetails} and then swaps it for a
+ * {@link UserPrincipal}, so the entity and password hash never reach the session.
+ */
+public class PrincipalAuthenticationProvider extends DaoAuthenticationProvider {
+
+    @Override
+    protected Authentication createSuccessAuthentication(Object principal, Authentication authentication,
+                                                         UserDetails user) {
+        Object compact = user instanceof CustomUserDetails details ? UserPrincipal.of(details.getUser()) : principal;
+        return super.createSuccessAuthentication(compact, authentication, user);
+    }
+}
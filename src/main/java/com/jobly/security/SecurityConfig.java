@@ -1,32 +1,93 @@
 package com.jobly.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.savedrequest.NullRequestCache;
+import org.springframework.util.StringUtils;
+
+import com.jobly.repository.UserRepository;
 
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    @Value("${jobly.auth.stateless.enabled:false}")
+    private boolean stateless;
+
+    @Value("${jobly.auth.token.secure-cookie:true}")
+    private boolean secureTokenCookie;
+
+    @Value("${jobly.metrics.scrape.username:prometheus}")
+    private String scrapeUsername;
+
+    @Value("${jobly.metrics.scrape.password:}")
+    private String scrapePassword;
+
+    /**
+     * Prometheus signs in with HTTP Basic as the configured scrape user, which holds only the
+     * METRICS role and exists outside the users table. With no password set nothing can scrape.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsFilterChain(HttpSecurity http, PasswordEncoder passwordEncoder) throws Exception {
+        InMemoryUserDetailsManager scrapers = new InMemoryUserDetailsManager();
+        if (StringUtils.hasText(scrapePassword)) {
+            scrapers.createUser(User.withUsername(scrapeUsername)
+                .password(passwordEncoder.encode(scrapePassword))
+                .roles("METRICS")
+                .build());
+        }
+        DaoAuthenticationProvider scrapeProvider = new DaoAuthenticationProvider();
+        scrapeProvider.setUserDetailsService(scrapers);
+        scrapeProvider.setPasswordEncoder(passwordEncoder);
+
+        http
+            .securityMatcher("/actuator/prometheus")
+            .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("METRICS"))
+            .authenticationManager(new ProviderManager(scrapeProvider))
+            .httpBasic(Customizer.withDefaults())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .csrf(AbstractHttpConfigurer::disable);
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http,
-                                                   DaoAuthenticationProvider authenticationProvider) throws Exception {
+                                                   DaoAuthenticationProvider authenticationProvider,
+                                                   AuthTokenService authTokenService,
+                                                   TokenRevocationList revocationList,
+                                                   UserRepository userRepository) throws Exception {
         http
             .authenticationProvider(authenticationProvider)
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/auth/login", "/auth/register").permitAll()
                 .requestMatchers("/css/**", "/js/**", "/images/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
-                .requestMatchers(HttpMethod.GET, "/", "/jobs", "/jobs/*").permitAll()
-                .requestMatchers("/admin/**").hasRole("SUPER_ADMIN")
+                .requestMatchers("/jobs/import").hasAnyRole("COMPANY", "HIRING_MANAGER")
+                .requestMatchers("/jobs/recommended").hasRole("CANDIDATE")
+                .requestMatchers(HttpMethod.GET, "/", "/jobs", "/jobs/*", "/api/v1/jobs", "/api/v1/jobs/*").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/admin/**", "/actuator/**").hasRole("SUPER_ADMIN")
                 .requestMatchers("/jobs/new", "/jobs", "/jobs/*/apply").hasAnyRole("COMPANY", "HIRING_MANAGER", "CANDIDATE")
                 .anyRequest().authenticated()
             )
@@ -42,13 +103,45 @@ public class SecurityConfig {
                 .permitAll()
             );
 
+        if (stateless) {
+            configureStatelessTokens(http, authTokenService, revocationList, userRepository);
+        }
         return http.build();
     }
 
+    /**
+     * Replaces the HTTP session with a signed token cookie issued at login, so any node can serve
+     * any request. CSRF tokens move to a cookie as well.
+     */
+    private void configureStatelessTokens(HttpSecurity http, AuthTokenService authTokenService,
+                                          TokenRevocationList revocationList,
+                                          UserRepository userRepository) throws Exception {
+        authTokenService.requireSigningKey();
+        TokenAuthenticationFilter tokenFilter =
+            new TokenAuthenticationFilter(authTokenService, revocationList, userRepository, secureTokenCookie);
+        http
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .securityContext(context -> context.securityContextRepository(new RequestAttributeSecurityContextRepository()))
+            .requestCache(cache -> cache.requestCache(new NullRequestCache()))
+            .csrf(csrf -> csrf.csrfTokenRepository(new CookieCsrfTokenRepository()))
+            .addFilterBefore(tokenFilter, UsernamePasswordAuthenticationFilter.class)
+            .formLogin(form -> form.successHandler((request, response, authentication) -> {
+                tokenFilter.writeCookie(response, authTokenService.issue((UserPrincipal) authentication.getPrincipal()));
+                response.sendRedirect(request.getContextPath() + "/");
+            }))
+            .logout(logout -> logout.addLogoutHandler((request, response, authentication) -> {
+                String token = TokenAuthenticationFilter.readCookie(request);
+                if (token != null) {
+                    authTokenService.verify(token).ifPresent(revocationList::revokeToken);
+                }
+                tokenFilter.clearCookie(response);
+            }));
+    }
+
     @Bean
     public DaoAuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
                                                              PasswordEncoder passwordEncoder) {
-        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        DaoAuthenticationProvider provider = new PrincipalAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
         provider.setPasswordEncoder(passwordEncoder);
         return provider;
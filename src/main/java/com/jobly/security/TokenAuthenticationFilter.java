@@ -0,0 +1,106 @@
+package com.jobly.security;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.jobly.repository.UserRepository;
+import com.jobly.security.AuthTokenService.AuthToken;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Authenticates requests from the signed token cookie in stateless mode. Verification is a
+ * signature check plus an in-memory revocation lookup; no session or {@code UserDetailsService}
+ * is involved. Only a refresh, at most once per half TTL, reads the user row again.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "jobly_token";
+
+    private final AuthTokenService authTokenService;
+    private final TokenRevocationList revocationList;
+    private final UserRepository userRepository;
+    private final boolean secureCookie;
+
+    public TokenAuthenticationFilter(AuthTokenService authTokenService, TokenRevocationList revocationList,
+                                     UserRepository userRepository, boolean secureCookie) {
+        this.authTokenService = authTokenService;
+        this.revocationList = revocationList;
+        this.userRepository = userRepository;
+        this.secureCookie = secureCookie;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        String value = readCookie(request);
+        if (value != null) {
+            Optional<AuthToken> token = authTokenService.verify(value)
+                .filter(candidate -> candidate.principal().enabled())
+                .filter(candidate -> !revocationList.isRevoked(candidate));
+            if (token.isPresent() && authTokenService.shouldRefresh(token.get())) {
+                // Reissued from the user row, so role changes and disabled accounts apply from here on.
+                token = userRepository.findById(token.get().principal().id())
+                    .map(UserPrincipal::of)
+                    .filter(UserPrincipal::enabled)
+                    .map(authTokenService::issue);
+                token.ifPresent(refreshed -> writeCookie(response, refreshed));
+            }
+            if (token.isPresent()) {
+                authenticate(token.get());
+            } else {
+                clearCookie(response);
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    public void writeCookie(HttpServletResponse response, AuthToken token) {
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie(token.value(), authTokenService.getTtl().toSeconds()).toString());
+    }
+
+    public void clearCookie(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie("", 0).toString());
+    }
+
+    public static String readCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static void authenticate(AuthToken token) {
+        UserPrincipal principal = token.principal();
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+    }
+
+    private ResponseCookie cookie(String value, long maxAgeSeconds) {
+        return ResponseCookie.from(COOKIE_NAME, value)
+            .httpOnly(true)
+            .secure(secureCookie)
+            .sameSite("Lax")
+            .path("/")
+            .maxAge(maxAgeSeconds)
+            .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.jobly.security;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobly.model.RevokedToken;
+import com.jobly.repository.RevokedTokenRepository;
+import com.jobly.security.AuthTokenService.AuthToken;
+
+/**
+ * Revoked token ids and per-user revocation times, checked in memory on every request.
+ *
+ * Revocations are written to the database so every node picks them up on its next refresh;
+ * a revocation made elsewhere takes effect here within one refresh interval.
+ */
+@Component
+public class TokenRevocationList {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final AuthTokenService authTokenService;
+    private final boolean enabled;
+
+    // Token id to expiry, and user id to the latest revocation time.
+    private final Map<String, Instant> revokedTokenIds = new ConcurrentHashMap<>();
+    private final Map<Long, Instant> revokedUsers = new ConcurrentHashMap<>();
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               AuthTokenService authTokenService,
+                               @Value("${jobly.auth.stateless.enabled:false}") boolean enabled) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.authTokenService = authTokenService;
+        this.enabled = enabled;
+    }
+
+    public boolean isRevoked(AuthToken token) {
+        if (revokedTokenIds.containsKey(token.tokenId())) {
+            return true;
+        }
+        Instant userRevokedAt = revokedUsers.get(token.principal().id());
+        return userRevokedAt != null && !token.issuedAt().isAfter(userRevokedAt);
+    }
+
+    @Transactional
+    public void revokeToken(AuthToken token) {
+        RevokedToken revoked = new RevokedToken();
+        revoked.setTokenId(token.tokenId());
+        revoked.setRevokedAt(Instant.now());
+        revoked.setExpiresAt(token.expiresAt());
+        revokedTokenRepository.save(revoked);
+        revokedTokenIds.put(token.tokenId(), token.expiresAt());
+    }
+
+    /**
+     * Invalidates every token issued to the user so far, e.g. when an admin disables the account.
+     */
+    @Transactional
+    public void revokeUser(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        Instant now = Instant.now();
+        RevokedToken revoked = new RevokedToken();
+        revoked.setUserId(userId);
+        revoked.setRevokedAt(now);
+        revoked.setExpiresAt(now.plus(authTokenService.getTtl()));
+        revokedTokenRepository.save(revoked);
+        revokedUsers.merge(userId, now, TokenRevocationList::latest);
+    }
+
+    @Scheduled(fixedDelayString = "${jobly.auth.token.revocation-refresh:PT30S}")
+    @Transactional
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        Instant now = Instant.now();
+        revokedTokenRepository.deleteExpired(now);
+        for (RevokedToken revoked : revokedTokenRepository.findByExpiresAtAfter(now)) {
+            if (revoked.getTokenId() != null) {
+                revokedTokenIds.put(revoked.getTokenId(), revoked.getExpiresAt());
+            }
+            if (revoked.getUserId() != null) {
+                revokedUsers.merge(revoked.getUserId(), revoked.getRevokedAt(), TokenRevocationList::latest);
+            }
+        }
+        // Entries are merged rather than replaced so a revocation made during the read is never lost.
+        revokedTokenIds.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        Instant oldestLiveToken = now.minus(authTokenService.getTtl());
+        revokedUsers.values().removeIf(revokedAt -> revokedAt.isBefore(oldestLiveToken));
+    }
+
+    private static Instant latest(Instant left, Instant right) {
+        return left.isAfter(right) ? left : right;
+    }
+}
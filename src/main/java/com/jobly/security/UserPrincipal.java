@@ -0,0 +1,72 @@
+package com.jobly.security;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.jobly.model.Role;
+import com.jobly.model.Role.RoleName;
+import com.jobly.model.User;
+
+/**
+ * What the session keeps about a signed-in user: a few scalar fields and the roles as a bitmask
+ * (a fixed bit per {@link RoleName}). It never holds the password or the entity;
+ * services turn {@link #id()} into a reference when they need one.
+ */
+public record UserPrincipal(Long id, String email, String fullName, int roleMask, boolean enabled)
+    implements UserDetails {
+
+    private static final RoleName[] ROLE_NAMES = RoleName.values();
+
+    public static UserPrincipal of(User user) {
+        int roleMask = 0;
+        for (Role role : user.getRoles()) {
+            roleMask |= bit(role.getName());
+        }
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getFullName(), roleMask, user.isEnabled());
+    }
+
+    public boolean hasRole(RoleName role) {
+        return (roleMask & bit(role)) != 0;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        List<GrantedAuthority> authorities = new ArrayList<>(Integer.bitCount(roleMask));
+        for (RoleName role : ROLE_NAMES) {
+            if (hasRole(role)) {
+                authorities.add(new SimpleGrantedAuthority(role.name()));
+            }
+        }
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Masks travel in signed tokens, so each role keeps its bit even if the enum is reordered.
+    private static int bit(RoleName role) {
+        return switch (role) {
+            case ROLE_CANDIDATE -> 1;
+            case ROLE_COMPANY -> 1 << 1;
+            case ROLE_HIRING_MANAGER -> 1 << 2;
+            case ROLE_SUPER_ADMIN -> 1 << 3;
+        };
+    }
+}
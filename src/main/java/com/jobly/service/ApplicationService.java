@@ -1,19 +1,47 @@
 package com.jobly.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import com.jobly.dto.application.ApplicationExportRow;
+import com.jobly.dto.application.ApplicationReceipt;
 import com.jobly.dto.application.ApplicationRequest;
 import com.jobly.model.JobApplication;
-import com.jobly.model.User;
 import com.jobly.model.enums.ApplicationStatus;
+import com.jobly.security.UserPrincipal;
 
 public interface ApplicationService {
 
-    JobApplication applyToJob(ApplicationRequest request, User candidate);
+    JobApplication applyToJob(ApplicationRequest request, UserPrincipal candidate);
 
-    List<JobApplication> getApplicationsForUser(User user);
+    /**
+     * Submits an application, queueing it for a background writer when asynchronous submission is
+     * enabled and saving it immediately otherwise.
+     */
+    ApplicationReceipt submitApplication(ApplicationRequest request, UserPrincipal candidate);
+
+    /** The subset of {@code jobIds} the user has applied to. */
+    Set<Long> findAppliedJobIds(UserPrincipal user, Collection<Long> jobIds);
+
+    ApplicationReceipt getReceipt(String receiptId, UserPrincipal candidate);
+
+    List<JobApplication> getApplicationsForUser(UserPrincipal user);
 
     List<JobApplication> getApplicationsForJob(Long jobId);
 
-    JobApplication updateApplicationStatus(Long applicationId, ApplicationStatus status, User actor);
+    /**
+     * Hands every application of a job, with its candidate, to {@code sink} as it is read from the
+     * database, grouped by status. Returns the number of applications exported.
+     */
+    long exportApplicationsForJob(Long jobId, UserPrincipal actor, Consumer<ApplicationExportRow> sink);
+
+    JobApplication updateApplicationStatus(Long applicationId, ApplicationStatus status, UserPrincipal actor);
+
+    /**
+     * Moves the given applications of one job to {@code status} in a single transaction.
+     * Ids that do not belong to the job are ignored; returns the number of applications updated.
+     */
+    int updateApplicationStatuses(Long jobId, Collection<Long> applicationIds, ApplicationStatus status, UserPrincipal actor);
 }
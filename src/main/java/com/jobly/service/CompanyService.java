@@ -1,6 +1,10 @@
 package com.jobly.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
 
 import com.jobly.model.Company;
 import com.jobly.model.User;
@@ -11,5 +15,10 @@ public interface CompanyService {
 
     Company getCompany(Long id);
 
+    /** Loads the given companies in one query; ids with no company are absent from the map. */
+    Map<Long, Company> getCompaniesById(Collection<Long> ids);
+
     List<Company> getAllCompanies();
+
+    Page<Company> getCompanies(int page, int size);
 }
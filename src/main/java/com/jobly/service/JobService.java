@@ -1,27 +1,65 @@
 package com.jobly.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
+import com.jobly.dto.job.JobBoardStamp;
+import com.jobly.dto.job.JobFacets;
+import com.jobly.dto.job.JobFilter;
+import com.jobly.dto.job.JobImportReport;
+import com.jobly.dto.job.JobImportRow;
+import com.jobly.dto.job.JobPage;
 import com.jobly.dto.job.JobRequest;
 import com.jobly.dto.job.JobResponse;
 import com.jobly.model.Job;
-import com.jobly.model.User;
+import com.jobly.security.UserPrincipal;
 
 public interface JobService {
 
-    JobResponse createJob(JobRequest request, User poster);
+    JobResponse createJob(JobRequest request, UserPrincipal poster);
+
+    /**
+     * Creates an open job for every valid row, all posted by {@code poster}, and reports the rows
+     * that were skipped and why.
+     */
+    JobImportReport importJobs(List<JobImportRow> rows, UserPrincipal poster);
 
     List<JobResponse> listOpenJobs();
 
-    List<JobResponse> listJobsForUser(User user);
+    JobPage listOpenJobs(String cursor, int size);
+
+    JobPage listOpenJobs(JobFilter filter, String cursor, int size);
+
+    /**
+     * Hands up to {@code limit} open jobs after {@code cursor} to {@code sink} as they are read,
+     * without holding the page in memory, and returns the cursor of the next page or null.
+     */
+    String streamOpenJobs(JobFilter filter, String cursor, int limit, Consumer<JobResponse> sink);
+
+    List<JobResponse> searchOpenJobs(String query, JobFilter filter, int limit);
+
+    /** Open jobs most similar to the ones the candidate applied to, best first. */
+    List<JobResponse> recommendJobs(UserPrincipal candidate, int limit);
+
+    JobFacets getOpenJobFacets(JobFilter filter);
+
+    List<JobResponse> listJobsForUser(UserPrincipal user);
 
     Job getJobEntity(Long id);
 
     JobResponse getJob(Long id);
 
-    JobResponse updateJob(Long id, JobRequest request, User requester);
+    /** The latest change to the job, its company or its poster. */
+    LocalDateTime getJobLastModified(Long id);
+
+    JobBoardStamp getBoardStamp();
+
+    JobResponse updateJob(Long id, JobRequest request, UserPrincipal requester);
+
+    void deleteJob(Long id, UserPrincipal requester);
 
-    void deleteJob(Long id, User requester);
+    boolean canManageJob(UserPrincipal requester, Long jobId);
 
-    boolean canManageJob(User requester, Long jobId);
+    boolean canManageJob(UserPrincipal requester, JobResponse job);
 }
@@ -0,0 +1,28 @@
+package com.jobly.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.jobly.dto.admin.DashboardStats;
+import com.jobly.model.Role.RoleName;
+import com.jobly.model.enums.JobStatus;
+
+public interface StatisticsService {
+
+    DashboardStats getDashboardStats();
+
+    void recordUserRegistered(RoleName roleName);
+
+    void recordUserEnabledChanged(Collection<RoleName> roleNames, boolean enabled);
+
+    /**
+     * Records a job moving between companies and/or statuses. Pass {@code null} for the
+     * "from" side of a new job and the "to" side of a deleted one.
+     */
+    void recordJobChange(Long fromCompanyId, JobStatus fromStatus, Long toCompanyId, JobStatus toStatus);
+
+    /** Records many new open jobs at once, given how many each company gained. */
+    void recordJobsOpened(Map<Long, Integer> openedByCompany);
+
+    void reconcile();
+}
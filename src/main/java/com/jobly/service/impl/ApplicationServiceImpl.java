@@ -1,50 +1,143 @@
 package com.jobly.service.impl;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.jobly.dto.application.ApplicationExportRow;
+import com.jobly.dto.application.ApplicationReceipt;
 import com.jobly.dto.application.ApplicationRequest;
+import com.jobly.event.ApplicationSubmittedEvent;
+import com.jobly.exception.DuplicateApplicationException;
 import com.jobly.exception.ResourceNotFoundException;
 import com.jobly.model.Job;
 import com.jobly.model.JobApplication;
-import com.jobly.model.User;
 import com.jobly.model.enums.ApplicationStatus;
 import com.jobly.repository.JobApplicationRepository;
+import com.jobly.repository.UserRepository;
+import com.jobly.security.UserPrincipal;
 import com.jobly.service.ApplicationService;
 import com.jobly.service.JobService;
 
 @Service
 public class ApplicationServiceImpl implements ApplicationService {
 
+    private static final int STATUS_UPDATE_CHUNK_SIZE = 500;
+    private static final Set<ApplicationStatus> BULK_STATUSES = EnumSet.of(ApplicationStatus.SHORTLISTED, ApplicationStatus.REJECTED);
+
     private final JobApplicationRepository jobApplicationRepository;
+    private final UserRepository userRepository;
     private final JobService jobService;
+    private final ApplicationSubmissionQueue submissionQueue;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppliedJobFilter appliedJobFilter;
+    private final AuditorAware<String> auditorAware;
+    private final TransactionTemplate transactionTemplate;
 
     public ApplicationServiceImpl(JobApplicationRepository jobApplicationRepository,
-                                  JobService jobService) {
+                                  UserRepository userRepository,
+                                  JobService jobService,
+                                  ApplicationSubmissionQueue submissionQueue,
+                                  ApplicationEventPublisher eventPublisher,
+                                  AppliedJobFilter appliedJobFilter,
+                                  AuditorAware<String> auditorAware,
+                                  TransactionTemplate transactionTemplate) {
         this.jobApplicationRepository = jobApplicationRepository;
+        this.userRepository = userRepository;
         this.jobService = jobService;
+        this.submissionQueue = submissionQueue;
+        this.eventPublisher = eventPublisher;
+        this.appliedJobFilter = appliedJobFilter;
+        this.auditorAware = auditorAware;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Override
     @Transactional
-    public JobApplication applyToJob(ApplicationRequest request, User candidate) {
+    public JobApplication applyToJob(ApplicationRequest request, UserPrincipal candidate) {
         Job job = jobService.getJobEntity(request.getJobId());
+        checkNotApplied(job.getId(), candidate.id());
 
         JobApplication application = new JobApplication();
         application.setJob(job);
-        application.setCandidate(candidate);
+        application.setCandidate(userRepository.getReferenceById(candidate.id()));
         application.setCoverLetter(request.getCoverLetter());
         application.setResumeUrl(request.getResumeUrl());
         application.setStatus(ApplicationStatus.SUBMITTED);
 
-        return jobApplicationRepository.save(application);
+        JobApplication saved;
+        try {
+            saved = jobApplicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException ex) {
+            // A concurrent submit of the same pair got past the check; the unique key stopped it.
+            if (ex.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+                throw new DuplicateApplicationException();
+            }
+            throw ex;
+        }
+        eventPublisher.publishEvent(new ApplicationSubmittedEvent(candidate.id(), job.getId(), request.getCoverLetter()));
+        return saved;
+    }
+
+    @Override
+    public ApplicationReceipt submitApplication(ApplicationRequest request, UserPrincipal candidate) {
+        if (!submissionQueue.isEnabled()) {
+            // A self-call skips the proxy, so give applyToJob its transaction here; the queued path needs none.
+            JobApplication application = transactionTemplate.execute(status -> applyToJob(request, candidate));
+            return new ApplicationReceipt(UUID.randomUUID().toString(), request.getJobId(), candidate.id(),
+                ApplicationReceipt.Status.SAVED, application.getId(), null, application.getCreatedAt());
+        }
+        // Served from the job details cache, so a burst of submissions does not touch the database here.
+        jobService.getJob(request.getJobId());
+        checkNotApplied(request.getJobId(), candidate.id());
+        return submissionQueue.submit(request.getJobId(), candidate.id(), request.getCoverLetter(), request.getResumeUrl());
+    }
+
+    @Override
+    public Set<Long> findAppliedJobIds(UserPrincipal user, Collection<Long> jobIds) {
+        List<Long> maybeApplied = jobIds.stream()
+            .filter(jobId -> appliedJobFilter.mightContain(jobId, user.id()))
+            .toList();
+        if (maybeApplied.isEmpty()) {
+            return Set.of();
+        }
+        return Set.copyOf(jobApplicationRepository.findAppliedJobIds(user.id(), maybeApplied));
+    }
+
+    private void checkNotApplied(Long jobId, Long candidateId) {
+        if (appliedJobFilter.mightContain(jobId, candidateId)
+            && jobApplicationRepository.existsByJobIdAndCandidateId(jobId, candidateId)) {
+            throw new DuplicateApplicationException();
+        }
     }
 
     @Override
-    public List<JobApplication> getApplicationsForUser(User user) {
-        return jobApplicationRepository.findByCandidate(user);
+    public ApplicationReceipt getReceipt(String receiptId, UserPrincipal candidate) {
+        return submissionQueue.findReceipt(receiptId)
+            .filter(receipt -> receipt.getCandidateId().equals(candidate.id()))
+            .orElseThrow(() -> new ResourceNotFoundException("Receipt not found"));
+    }
+
+    @Override
+    public List<JobApplication> getApplicationsForUser(UserPrincipal user) {
+        return jobApplicationRepository.findByCandidateId(user.id());
     }
 
     @Override
@@ -52,9 +145,26 @@ public class ApplicationServiceImpl implements ApplicationService {
         return jobApplicationRepository.findByJobId(jobId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long exportApplicationsForJob(Long jobId, UserPrincipal actor, Consumer<ApplicationExportRow> sink) {
+        if (!jobService.canManageJob(actor, jobId)) {
+            throw new IllegalArgumentException("You cannot export these applications");
+        }
+        long exported = 0;
+        try (Stream<ApplicationExportRow> rows = jobApplicationRepository.streamExportRowsByJobId(jobId)) {
+            Iterator<ApplicationExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(iterator.next());
+                exported++;
+            }
+        }
+        return exported;
+    }
+
     @Override
     @Transactional
-    public JobApplication updateApplicationStatus(Long applicationId, ApplicationStatus status, User actor) {
+    public JobApplication updateApplicationStatus(Long applicationId, ApplicationStatus status, UserPrincipal actor) {
         JobApplication application = jobApplicationRepository.findById(applicationId)
             .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
         Job job = application.getJob();
@@ -64,4 +174,29 @@ public class ApplicationServiceImpl implements ApplicationService {
         application.setStatus(status);
         return jobApplicationRepository.save(application);
     }
+
+    @Override
+    @Transactional
+    public int updateApplicationStatuses(Long jobId, Collection<Long> applicationIds, ApplicationStatus status, UserPrincipal actor) {
+        if (status == null || !BULK_STATUSES.contains(status)) {
+            throw new IllegalArgumentException("Applications can only be shortlisted or rejected in bulk");
+        }
+        if (!jobService.canManageJob(actor, jobId)) {
+            throw new IllegalArgumentException("You cannot update these applications");
+        }
+        if (applicationIds == null || applicationIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(applicationIds));
+        // The bulk update bypasses entity auditing, so it writes the same audit columns a save would.
+        LocalDateTime now = LocalDateTime.now();
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+        int updated = 0;
+        for (int from = 0; from < ids.size(); from += STATUS_UPDATE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + STATUS_UPDATE_CHUNK_SIZE, ids.size()));
+            updated += jobApplicationRepository.updateStatusForJob(jobId, chunk, status, now, auditor);
+        }
+        return updated;
+    }
 }
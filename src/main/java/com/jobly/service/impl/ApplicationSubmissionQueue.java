@@ -0,0 +1,232 @@
+package com.jobly.service.impl;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobly.dto.application.ApplicationReceipt;
+import com.jobly.event.ApplicationSubmittedEvent;
+import com.jobly.exception.DuplicateApplicationException;
+import com.jobly.exception.ServiceBusyException;
+import com.jobly.model.enums.ApplicationStatus;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bounded in-process queue for application submissions, drained by a small pool of writers that
+ * insert rows with JDBC batches. A full queue is rejected immediately instead of queueing requests
+ * on Tomcat and Hikari; receipts are kept for an hour so candidates can poll the outcome.
+ */
+@Component
+public class ApplicationSubmissionQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationSubmissionQueue.class);
+
+    static final int RETRY_AFTER_SECONDS = 5;
+
+    private static final String INSERT_SQL = "insert into job_applications "
+        + "(job_id, candidate_id, cover_letter, resume_url, status, created_at, created_by, updated_at, updated_by) "
+        + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String AUDITOR = "system";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int workers;
+    private final int batchSize;
+    private final BlockingQueue<Submission> queue;
+    private final Cache<String, ApplicationReceipt> receipts = Caffeine.newBuilder()
+        .maximumSize(100_000)
+        .expireAfterWrite(1, TimeUnit.HOURS)
+        .build();
+
+    private ExecutorService writers;
+    private volatile boolean running;
+
+    public ApplicationSubmissionQueue(JdbcTemplate jdbcTemplate,
+                                      TransactionTemplate transactionTemplate,
+                                      ApplicationEventPublisher eventPublisher,
+                                      @Value("${jobly.applications.async.enabled:false}") boolean enabled,
+                                      @Value("${jobly.applications.async.queue-capacity:1000}") int queueCapacity,
+                                      @Value("${jobly.applications.async.workers:2}") int workers,
+                                      @Value("${jobly.applications.async.batch-size:100}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writers = Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("application-writer-", 0).factory());
+        for (int i = 0; i < workers; i++) {
+            writers.execute(this::drainLoop);
+        }
+        log.info("Asynchronous application submission enabled with {} writers and capacity {}",
+            workers, queue.remainingCapacity());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writers == null) {
+            return;
+        }
+        running = false;
+        writers.shutdown();
+        writers.awaitTermination(10, TimeUnit.SECONDS);
+        List<Submission> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+    }
+
+    /**
+     * Enqueues a submission and returns its QUEUED receipt, or throws {@link ServiceBusyException}
+     * when the queue is full.
+     */
+    public ApplicationReceipt submit(Long jobId, Long candidateId, String coverLetter, String resumeUrl) {
+        ApplicationReceipt receipt = new ApplicationReceipt(UUID.randomUUID().toString(), jobId, candidateId,
+            ApplicationReceipt.Status.QUEUED, null, null, LocalDateTime.now());
+        receipts.put(receipt.getId(), receipt);
+        if (!queue.offer(new Submission(receipt, coverLetter, resumeUrl))) {
+            receipts.invalidate(receipt.getId());
+            throw new ServiceBusyException("Too many applications are being submitted right now. Please retry shortly.",
+                RETRY_AFTER_SECONDS);
+        }
+        return receipt;
+    }
+
+    public Optional<ApplicationReceipt> findReceipt(String receiptId) {
+        return Optional.ofNullable(receipts.getIfPresent(receiptId));
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<Submission> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Submission first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Application writer failed", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Submission> batch) {
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> insert(batch));
+            for (int i = 0; i < batch.size(); i++) {
+                Submission submission = batch.get(i);
+                ApplicationReceipt receipt = submission.receipt();
+                receipts.put(receipt.getId(), receipt.saved(ids.get(i)));
+                eventPublisher.publishEvent(new ApplicationSubmittedEvent(receipt.getCandidateId(), receipt.getJobId(),
+                    submission.coverLetter()));
+            }
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                ApplicationReceipt receipt = batch.get(0).receipt();
+                if (ex instanceof DuplicateKeyException) {
+                    receipts.put(receipt.getId(), receipt.failed(new DuplicateApplicationException().getMessage()));
+                    return;
+                }
+                log.warn("Could not save application for job {}: {}", receipt.getJobId(), ex.getMessage());
+                receipts.put(receipt.getId(), receipt.failed("The application could not be saved."));
+                return;
+            }
+            // One bad row (e.g. a job deleted after enqueueing) must not fail its neighbours.
+            for (Submission submission : batch) {
+                write(List.of(submission));
+            }
+        }
+    }
+
+    private List<Long> insert(List<Submission> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement statement, int i) throws SQLException {
+                    Submission submission = batch.get(i);
+                    statement.setLong(1, submission.receipt().getJobId());
+                    statement.setLong(2, submission.receipt().getCandidateId());
+                    statement.setString(3, submission.coverLetter());
+                    statement.setString(4, submission.resumeUrl());
+                    statement.setString(5, ApplicationStatus.SUBMITTED.name());
+                    statement.setTimestamp(6, now);
+                    statement.setString(7, AUDITOR);
+                    statement.setTimestamp(8, now);
+                    statement.setString(9, AUDITOR);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch.size();
+                }
+            },
+            keys);
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (Map<String, Object> row : keys.getKeyList()) {
+            ids.add(((Number) row.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    private record Submission(ApplicationReceipt receipt, String coverLetter, String resumeUrl) {
+    }
+}
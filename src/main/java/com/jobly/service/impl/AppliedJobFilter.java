@@ -0,0 +1,105 @@
+package com.jobly.service.impl;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jobly.event.ApplicationSubmittedEvent;
+import com.jobly.repository.JobRepository;
+
+/**
+ * Bloom filter over the (job, candidate) pairs that have an application. A negative answer is
+ * certain, so a first-time applicant skips the existence query; a positive one is confirmed
+ * against the database, and the unique constraint stays the final word. Until the filter has been
+ * loaded at startup every pair answers positive.
+ */
+@Component
+public class AppliedJobFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(AppliedJobFilter.class);
+
+    private static final String PAIRS_SQL = "select job_id, candidate_id from job_applications";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashes;
+    private volatile boolean loaded;
+
+    public AppliedJobFilter(JdbcTemplate jdbcTemplate,
+                            @Value("${jobly.applications.filter.expected-pairs:5000000}") long expectedPairs,
+                            @Value("${jobly.applications.filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jdbcTemplate = jdbcTemplate;
+        long optimalBits = (long) Math.ceil(-expectedPairs * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) Math.max(1, (optimalBits + 63) / 64));
+        this.bitCount = bits.length() * 64L;
+        this.hashes = (int) Math.max(1, Math.round((double) bitCount / expectedPairs * Math.log(2)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long[] pairs = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(PAIRS_SQL);
+            statement.setFetchSize(JobRepository.STREAM_FETCH_SIZE);
+            return statement;
+        }, resultSet -> {
+            add(resultSet.getLong(1), resultSet.getLong(2));
+            pairs[0]++;
+        });
+        loaded = true;
+        log.info("Applied job filter loaded with {} pairs in {} KB and {} hashes", pairs[0], bitCount / 8 / 1024, hashes);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+        add(event.getJobId(), event.getCandidateId());
+    }
+
+    public void add(long jobId, long candidateId) {
+        long first = mix(jobId * 0x9E3779B97F4A7C15L ^ candidateId);
+        long second = mix(first) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(first + i * second, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((bits.get(word) & mask) == 0) {
+                bits.accumulateAndGet(word, mask, (current, added) -> current | added);
+            }
+        }
+    }
+
+    /** False means the candidate has certainly not applied to the job. */
+    public boolean mightContain(long jobId, long candidateId) {
+        if (!loaded) {
+            return true;
+        }
+        long first = mix(jobId * 0x9E3779B97F4A7C15L ^ candidateId);
+        long second = mix(first) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(first + i * second, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // MurmurHash3 64-bit finalizer.
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb93fe53e87b3L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
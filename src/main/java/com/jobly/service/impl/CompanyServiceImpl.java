@@ -1,7 +1,14 @@
 package com.jobly.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,8 +47,23 @@ public class CompanyServiceImpl implements CompanyService {
             .orElseThrow(() -> new ResourceNotFoundException("Company not found"));
     }
 
+    @Override
+    public Map<Long, Company> getCompaniesById(Collection<Long> ids) {
+        return companyRepository.findAllById(ids)
+            .stream()
+            .collect(Collectors.toMap(Company::getId, Function.identity()));
+    }
+
     @Override
     public List<Company> getAllCompanies() {
         return companyRepository.findAll();
     }
+
+    @Override
+    public Page<Company> getCompanies(int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Invalid page request");
+        }
+        return companyRepository.findAll(PageRequest.of(page, size, Sort.by("name", "id")));
+    }
 }
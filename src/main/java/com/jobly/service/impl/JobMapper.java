@@ -0,0 +1,37 @@
+package com.jobly.service.impl;
+
+import com.jobly.dto.job.JobResponse;
+import com.jobly.model.Job;
+
+/**
+ * Maps job entities to responses. Reads only what is already loaded on the entity.
+ */
+final class JobMapper {
+
+    private JobMapper() {
+    }
+
+    static JobResponse toResponse(Job job) {
+        JobResponse response = new JobResponse();
+        response.setId(job.getId());
+        response.setTitle(job.getTitle());
+        response.setDescription(job.getDescription());
+        response.setLocation(job.getLocation());
+        response.setEmploymentType(job.getEmploymentType().name());
+        response.setSalaryMin(job.getSalaryMin());
+        response.setSalaryMax(job.getSalaryMax());
+        response.setStatus(job.getStatus().name());
+        if (job.getCompany() != null) {
+            response.setCompanyId(job.getCompany().getId());
+            response.setCompanyName(job.getCompany().getName());
+        }
+        if (job.getPostedBy() != null) {
+            response.setPostedById(job.getPostedBy().getId());
+            response.setPostedBy(job.getPostedBy().getFullName());
+            response.setPostedByEmail(job.getPostedBy().getEmail());
+        }
+        response.setCreatedAt(job.getCreatedAt());
+        response.setUpdatedAt(job.getUpdatedAt() != null ? job.getUpdatedAt() : job.getCreatedAt());
+        return response;
+    }
+}
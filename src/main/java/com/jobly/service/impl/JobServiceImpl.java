@@ -1,38 +1,115 @@
 package com.jobly.service.impl;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.jobly.config.CacheConfig;
+import com.jobly.dto.job.JobBoardStamp;
+import com.jobly.dto.job.JobCursor;
+import com.jobly.dto.job.JobFacets;
+import com.jobly.dto.job.JobFilter;
+import com.jobly.dto.job.JobImportReport;
+import com.jobly.dto.job.JobImportRow;
+import com.jobly.dto.job.JobPage;
 import com.jobly.dto.job.JobRequest;
 import com.jobly.dto.job.JobResponse;
+import com.jobly.event.JobChangedEvent;
 import com.jobly.exception.ResourceNotFoundException;
 import com.jobly.model.Company;
 import com.jobly.model.Job;
-import com.jobly.model.Role;
 import com.jobly.model.User;
 import com.jobly.model.enums.EmploymentType;
 import com.jobly.model.enums.JobStatus;
+import com.jobly.repository.JobBatchWriter;
 import com.jobly.repository.JobRepository;
+import com.jobly.repository.UserRepository;
+import com.jobly.search.JobFacetIndex;
+import com.jobly.search.JobRecommender;
+import com.jobly.search.JobSearchIndex;
+import com.jobly.security.JobAccessPolicy;
+import com.jobly.security.UserPrincipal;
 import com.jobly.service.CompanyService;
 import com.jobly.service.JobService;
+import com.jobly.service.StatisticsService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 @Service
 public class JobServiceImpl implements JobService {
 
+    private static final int FACET_LOCATION_LIMIT = 10;
+
     private final JobRepository jobRepository;
+    private final UserRepository userRepository;
     private final CompanyService companyService;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobFacetIndex jobFacetIndex;
+    private final JobRecommender jobRecommender;
+    private final JobAccessPolicy jobAccessPolicy;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatisticsService statisticsService;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final JobBatchWriter jobBatchWriter;
+    private final Cache jobDetailsCache;
+    // Bumped by every eviction; a detail read only stores what it loaded if none ran meanwhile.
+    private final Object jobDetailsLock = new Object();
+    private long jobDetailsEvictions;
 
-    public JobServiceImpl(JobRepository jobRepository, CompanyService companyService) {
+    public JobServiceImpl(JobRepository jobRepository,
+                          UserRepository userRepository,
+                          CompanyService companyService,
+                          JobSearchIndex jobSearchIndex,
+                          JobFacetIndex jobFacetIndex,
+                          JobRecommender jobRecommender,
+                          JobAccessPolicy jobAccessPolicy,
+                          ApplicationEventPublisher eventPublisher,
+                          StatisticsService statisticsService,
+                          EntityManager entityManager,
+                          Validator validator,
+                          JobBatchWriter jobBatchWriter,
+                          CacheManager cacheManager) {
         this.jobRepository = jobRepository;
+        this.userRepository = userRepository;
         this.companyService = companyService;
+        this.jobSearchIndex = jobSearchIndex;
+        this.jobFacetIndex = jobFacetIndex;
+        this.jobRecommender = jobRecommender;
+        this.jobAccessPolicy = jobAccessPolicy;
+        this.eventPublisher = eventPublisher;
+        this.statisticsService = statisticsService;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.jobBatchWriter = jobBatchWriter;
+        this.jobDetailsCache = cacheManager.getCache(CacheConfig.JOB_DETAILS);
     }
 
     @Override
     @Transactional
-    public JobResponse createJob(JobRequest request, User poster) {
+    public JobResponse createJob(JobRequest request, UserPrincipal poster) {
         Company company = companyService.getCompany(request.getCompanyId());
 
         Job job = new Job();
@@ -44,25 +121,218 @@ public class JobServiceImpl implements JobService {
         job.setSalaryMax(request.getSalaryMax());
         job.setStatus(JobStatus.OPEN);
         job.setCompany(company);
-        job.setPostedBy(poster);
+        job.setPostedBy(userRepository.getReferenceById(poster.id()));
 
         Job saved = jobRepository.save(job);
-        return toResponse(saved);
+        statisticsService.recordJobChange(null, null, company.getId(), saved.getStatus());
+        JobResponse response = JobMapper.toResponse(saved);
+        eventPublisher.publishEvent(new JobChangedEvent(saved.getId(), response));
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public JobImportReport importJobs(List<JobImportRow> rows, UserPrincipal poster) {
+        // One lookup for every company the file mentions, instead of one per row.
+        Map<Long, Company> companies = companyService.getCompaniesById(rows.stream()
+            .map(JobImportRow::getRequest)
+            .filter(Objects::nonNull)
+            .map(JobRequest::getCompanyId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet()));
+        // Rows are independent and validation dominates for large files; the list keeps file order.
+        List<String> problems = rows.parallelStream()
+            .map(row -> importProblem(row, companies))
+            .toList();
+
+        User postedBy = userRepository.getReferenceById(poster.id());
+        List<Job> jobs = new ArrayList<>();
+        List<JobImportReport.RowError> errors = new ArrayList<>();
+        Map<Long, Integer> openedByCompany = new TreeMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            JobImportRow row = rows.get(i);
+            if (problems.get(i) != null) {
+                errors.add(new JobImportReport.RowError(row.getLine(), problems.get(i)));
+                continue;
+            }
+            JobRequest request = row.getRequest();
+            Job job = new Job();
+            job.setTitle(request.getTitle());
+            job.setDescription(request.getDescription());
+            job.setLocation(request.getLocation());
+            job.setEmploymentType(EmploymentType.valueOf(request.getEmploymentType()));
+            job.setSalaryMin(request.getSalaryMin());
+            job.setSalaryMax(request.getSalaryMax());
+            job.setStatus(JobStatus.OPEN);
+            job.setCompany(companies.get(request.getCompanyId()));
+            job.setPostedBy(postedBy);
+            jobs.add(job);
+            openedByCompany.merge(request.getCompanyId(), 1, Integer::sum);
+        }
+
+        jobBatchWriter.insert(jobs);
+        statisticsService.recordJobsOpened(openedByCompany);
+        for (Job job : jobs) {
+            eventPublisher.publishEvent(new JobChangedEvent(job.getId(), JobMapper.toResponse(job)));
+        }
+        return new JobImportReport(rows.size(), jobs.size(), errors);
+    }
+
+    private String importProblem(JobImportRow row, Map<Long, Company> companies) {
+        if (row.getError() != null) {
+            return row.getError();
+        }
+        JobRequest request = row.getRequest();
+        Set<ConstraintViolation<JobRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        }
+        if (Arrays.stream(EmploymentType.values()).noneMatch(type -> type.name().equals(request.getEmploymentType()))) {
+            return "employmentType: must be one of " + Arrays.toString(EmploymentType.values());
+        }
+        if (!companies.containsKey(request.getCompanyId())) {
+            return "companyId: no company with id " + request.getCompanyId();
+        }
+        return null;
     }
 
     @Override
     public List<JobResponse> listOpenJobs() {
         return jobRepository.findByStatus(JobStatus.OPEN)
             .stream()
-            .map(this::toResponse)
+            .map(JobMapper::toResponse)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public JobPage listOpenJobs(String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        // Fetch one extra row to learn whether another page exists without a count query.
+        PageRequest window = PageRequest.of(0, size + 1);
+        List<Job> jobs;
+        if (cursor == null || cursor.isBlank()) {
+            jobs = jobRepository.findFirstPageByStatus(JobStatus.OPEN, window);
+        } else {
+            JobCursor position = JobCursor.decode(cursor);
+            jobs = jobRepository.findPageByStatusAfter(JobStatus.OPEN, position.getCreatedAt(), position.getId(), window);
+        }
+
+        List<JobResponse> page = jobs.stream()
+            .limit(size)
+            .map(JobMapper::toResponse)
             .collect(Collectors.toList());
+        String nextCursor = jobs.size() > size ? JobCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new JobPage(page, nextCursor);
     }
 
     @Override
-    public List<JobResponse> listJobsForUser(User user) {
-        return jobRepository.findByPostedBy(user)
+    public JobPage listOpenJobs(JobFilter filter, String cursor, int size) {
+        if (filter == null || filter.isEmpty()) {
+            return listOpenJobs(cursor, size);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        JobCursor position = cursor == null || cursor.isBlank() ? null : JobCursor.decode(cursor);
+        List<Long> ids = jobFacetIndex.page(filter, position, size + 1);
+        List<JobResponse> page = loadInOrder(ids.subList(0, Math.min(size, ids.size())));
+        String nextCursor = ids.size() > size && !page.isEmpty() ? JobCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new JobPage(page, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String streamOpenJobs(JobFilter filter, String cursor, int limit, Consumer<JobResponse> sink) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        JobCursor position = cursor == null || cursor.isBlank() ? null : JobCursor.decode(cursor);
+        if (filter != null && !filter.isEmpty()) {
+            return streamInOrder(jobFacetIndex.page(filter, position, limit + 1), limit, sink);
+        }
+        // One extra row tells whether another page exists, as in listOpenJobs.
+        PageRequest window = PageRequest.ofSize(limit + 1);
+        try (Stream<Job> jobs = position == null
+            ? jobRepository.streamByStatus(JobStatus.OPEN, window)
+            : jobRepository.streamByStatusAfter(JobStatus.OPEN, position.getCreatedAt(), position.getId(), window)) {
+            return emit(jobs.iterator(), limit, sink);
+        }
+    }
+
+    // Loads the ids a chunk at a time, so only one chunk of entities is ever in memory.
+    private String streamInOrder(List<Long> ids, int limit, Consumer<JobResponse> sink) {
+        int chunk = JobRepository.STREAM_FETCH_SIZE;
+        Stream<Job> jobs = IntStream.iterate(0, from -> from < ids.size(), from -> from + chunk)
+            .mapToObj(from -> ids.subList(from, Math.min(ids.size(), from + chunk)))
+            .flatMap(chunkIds -> findInOrder(chunkIds).stream());
+        return emit(jobs.iterator(), limit, sink);
+    }
+
+    private String emit(Iterator<Job> jobs, int limit, Consumer<JobResponse> sink) {
+        JobResponse last = null;
+        int emitted = 0;
+        while (jobs.hasNext()) {
+            Job job = jobs.next();
+            if (emitted == limit) {
+                return JobCursor.of(last).encode();
+            }
+            last = JobMapper.toResponse(job);
+            sink.accept(last);
+            // Written jobs are never read again; keep the persistence context from growing with the page.
+            if (++emitted % JobRepository.STREAM_FETCH_SIZE == 0) {
+                entityManager.clear();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<JobResponse> searchOpenJobs(String query, JobFilter filter, int limit) {
+        if (filter == null || filter.isEmpty()) {
+            return loadInOrder(jobSearchIndex.search(query, limit));
+        }
+        return loadInOrder(jobSearchIndex.search(query, limit, jobId -> jobFacetIndex.matches(jobId, filter)));
+    }
+
+    @Override
+    public List<JobResponse> recommendJobs(UserPrincipal candidate, int limit) {
+        return loadInOrder(jobRecommender.recommend(candidate.id(), limit));
+    }
+
+    @Override
+    public JobFacets getOpenJobFacets(JobFilter filter) {
+        return jobFacetIndex.facets(filter, FACET_LOCATION_LIMIT);
+    }
+
+    private List<JobResponse> loadInOrder(List<Long> ids) {
+        return findInOrder(ids).stream()
+            .map(JobMapper::toResponse)
+            .collect(Collectors.toList());
+    }
+
+    private List<Job> findInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Job> jobsById = jobRepository.findByIdIn(ids)
             .stream()
-            .map(this::toResponse)
+            .collect(Collectors.toMap(Job::getId, Function.identity()));
+        return ids.stream()
+            .map(jobsById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<JobResponse> listJobsForUser(UserPrincipal user) {
+        return jobRepository.findByPostedById(user.id())
+            .stream()
+            .map(JobMapper::toResponse)
             .collect(Collectors.toList());
     }
 
@@ -74,15 +344,55 @@ public class JobServiceImpl implements JobService {
 
     @Override
     public JobResponse getJob(Long id) {
-        Job job = getJobEntity(id);
-        return toResponse(job);
+        // Every caller gets its own copy, so changes made to a response never reach the cached one.
+        Cache.ValueWrapper cached = jobDetailsCache.get(id);
+        JobResponse details = cached != null ? (JobResponse) cached.get() : null;
+        if (details == null) {
+            long evictions;
+            synchronized (jobDetailsLock) {
+                evictions = jobDetailsEvictions;
+            }
+            details = loadJob(id);
+            synchronized (jobDetailsLock) {
+                if (evictions == jobDetailsEvictions) {
+                    jobDetailsCache.put(id, details);
+                }
+            }
+        }
+        return new JobResponse(details);
+    }
+
+    private JobResponse loadJob(Long id) {
+        Job job = jobRepository.findWithCompanyAndPosterById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+        JobResponse response = JobMapper.toResponse(job);
+        response.setLastModified(Stream.of(job, job.getCompany(), job.getPostedBy())
+            .filter(Objects::nonNull)
+            .map(entity -> entity.getUpdatedAt() != null ? entity.getUpdatedAt() : entity.getCreatedAt())
+            .filter(Objects::nonNull)
+            .max(Comparator.naturalOrder())
+            .orElseThrow());
+        return response;
+    }
+
+    @Override
+    public LocalDateTime getJobLastModified(Long id) {
+        return jobRepository.findLastModifiedById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+    }
+
+    @Override
+    public JobBoardStamp getBoardStamp() {
+        return jobRepository.findBoardStamp(JobStatus.OPEN);
     }
 
     @Override
     @Transactional
-    public JobResponse updateJob(Long id, JobRequest request, User requester) {
-        Job job = getJobEntity(id);
+    public JobResponse updateJob(Long id, JobRequest request, UserPrincipal requester) {
+        Job job = jobRepository.findWithCompanyAndPosterById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
         ensureCanManage(requester, job);
+        Long previousCompanyId = companyId(job);
 
         if (request.getCompanyId() != null) {
             Company company = companyService.getCompany(request.getCompanyId());
@@ -97,51 +407,49 @@ public class JobServiceImpl implements JobService {
         job.setSalaryMax(request.getSalaryMax());
 
         Job updated = jobRepository.save(job);
-        return toResponse(updated);
+        statisticsService.recordJobChange(previousCompanyId, updated.getStatus(), companyId(updated), updated.getStatus());
+        JobResponse response = JobMapper.toResponse(updated);
+        eventPublisher.publishEvent(new JobChangedEvent(updated.getId(), response));
+        return response;
     }
 
     @Override
     @Transactional
-    public void deleteJob(Long id, User requester) {
+    public void deleteJob(Long id, UserPrincipal requester) {
         Job job = getJobEntity(id);
         ensureCanManage(requester, job);
+        statisticsService.recordJobChange(companyId(job), job.getStatus(), null, null);
         jobRepository.delete(job);
+        eventPublisher.publishEvent(new JobChangedEvent(id, null));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictJobDetails(JobChangedEvent event) {
+        // Runs once the change has committed. A read that loaded the old row before this point
+        // sees the bumped counter and does not put it back.
+        synchronized (jobDetailsLock) {
+            jobDetailsEvictions++;
+            jobDetailsCache.evict(event.getJobId());
+        }
+    }
+
+    private static Long companyId(Job job) {
+        return job.getCompany() != null ? job.getCompany().getId() : null;
     }
 
-    private void ensureCanManage(User requester, Job job) {
-        if (!canManageJob(requester, job.getId())) {
+    private void ensureCanManage(UserPrincipal requester, Job job) {
+        if (!jobAccessPolicy.canManage(requester, job)) {
             throw new IllegalArgumentException("You cannot modify this job");
         }
     }
 
     @Override
-    public boolean canManageJob(User requester, Long jobId) {
-        Job job = getJobEntity(jobId);
-        boolean isPoster = job.getPostedBy() != null && job.getPostedBy().getId().equals(requester.getId());
-        boolean isSuperAdmin = requester.getRoles().stream()
-            .anyMatch(role -> role.getName() == Role.RoleName.ROLE_SUPER_ADMIN);
-        return isPoster || isSuperAdmin;
+    public boolean canManageJob(UserPrincipal requester, Long jobId) {
+        return jobAccessPolicy.canManage(requester, jobId);
     }
 
-    private JobResponse toResponse(Job job) {
-        JobResponse response = new JobResponse();
-        response.setId(job.getId());
-        response.setTitle(job.getTitle());
-        response.setDescription(job.getDescription());
-        response.setLocation(job.getLocation());
-        response.setEmploymentType(job.getEmploymentType().name());
-        response.setSalaryMin(job.getSalaryMin());
-        response.setSalaryMax(job.getSalaryMax());
-        response.setStatus(job.getStatus().name());
-        if (job.getCompany() != null) {
-            response.setCompanyId(job.getCompany().getId());
-            response.setCompanyName(job.getCompany().getName());
-        }
-        if (job.getPostedBy() != null) {
-            response.setPostedBy(job.getPostedBy().getFullName());
-            response.setPostedByEmail(job.getPostedBy().getEmail());
-        }
-        response.setCreatedAt(job.getCreatedAt());
-        return response;
+    @Override
+    public boolean canManageJob(UserPrincipal requester, JobResponse job) {
+        return jobAccessPolicy.canManage(requester, job);
     }
 }
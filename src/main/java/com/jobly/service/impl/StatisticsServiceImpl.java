@@ -0,0 +1,151 @@
+package com.jobly.service.impl;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobly.dto.admin.DashboardStats;
+import com.jobly.model.Role.RoleName;
+import com.jobly.model.StatCounter;
+import com.jobly.model.enums.JobStatus;
+import com.jobly.repository.CompanyRepository;
+import com.jobly.repository.StatCounterRepository;
+import com.jobly.service.StatisticsService;
+
+/**
+ * Dashboard totals kept as counters. Every write path adjusts them inside its own transaction, so a
+ * rolled-back write never leaves a counter behind; {@link #reconcile()} recounts from the source
+ * tables on a schedule to absorb writes that bypass the services (seeding, manual SQL).
+ */
+@Service
+public class StatisticsServiceImpl implements StatisticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatisticsServiceImpl.class);
+
+    static final String OPEN_JOBS = "jobs.open";
+    static final String DISABLED_USERS = "users.disabled";
+
+    private final StatCounterRepository statCounterRepository;
+    private final CompanyRepository companyRepository;
+
+    public StatisticsServiceImpl(StatCounterRepository statCounterRepository,
+                                 CompanyRepository companyRepository) {
+        this.statCounterRepository = statCounterRepository;
+        this.companyRepository = companyRepository;
+    }
+
+    static String enabledUsers(RoleName roleName) {
+        return "users.enabled." + roleName.name();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DashboardStats getDashboardStats() {
+        Map<String, Long> counters = readCounters();
+        Map<RoleName, Long> enabledByRole = new EnumMap<>(RoleName.class);
+        for (RoleName roleName : RoleName.values()) {
+            enabledByRole.put(roleName, counters.getOrDefault(enabledUsers(roleName), 0L));
+        }
+        return new DashboardStats(enabledByRole, counters.getOrDefault(DISABLED_USERS, 0L),
+            counters.getOrDefault(OPEN_JOBS, 0L));
+    }
+
+    @Override
+    @Transactional
+    public void recordUserRegistered(RoleName roleName) {
+        statCounterRepository.increment(enabledUsers(roleName), 1);
+    }
+
+    @Override
+    @Transactional
+    public void recordUserEnabledChanged(Collection<RoleName> roleNames, boolean enabled) {
+        long delta = enabled ? 1 : -1;
+        for (RoleName roleName : roleNames) {
+            statCounterRepository.increment(enabledUsers(roleName), delta);
+        }
+        statCounterRepository.increment(DISABLED_USERS, -delta);
+    }
+
+    @Override
+    @Transactional
+    public void recordJobChange(Long fromCompanyId, JobStatus fromStatus, Long toCompanyId, JobStatus toStatus) {
+        boolean wasOpen = fromStatus == JobStatus.OPEN;
+        boolean isOpen = toStatus == JobStatus.OPEN;
+        if (wasOpen != isOpen) {
+            statCounterRepository.increment(OPEN_JOBS, isOpen ? 1 : -1);
+        }
+        if (wasOpen && isOpen && Objects.equals(fromCompanyId, toCompanyId)) {
+            return;
+        }
+        if (wasOpen && fromCompanyId != null) {
+            companyRepository.adjustOpenJobCount(fromCompanyId, -1);
+        }
+        if (isOpen && toCompanyId != null) {
+            companyRepository.adjustOpenJobCount(toCompanyId, 1);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordJobsOpened(Map<Long, Integer> openedByCompany) {
+        long opened = openedByCompany.values().stream().mapToLong(Integer::longValue).sum();
+        if (opened == 0) {
+            return;
+        }
+        statCounterRepository.increment(OPEN_JOBS, opened);
+        openedByCompany.forEach(companyRepository::adjustOpenJobCount);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jobly.stats.reconcile-interval:PT10M}",
+        initialDelayString = "${jobly.stats.reconcile-interval:PT10M}")
+    @Transactional
+    public void reconcile() {
+        Map<String, Long> before = readCounters();
+        for (RoleName roleName : RoleName.values()) {
+            ensureCounter(before, enabledUsers(roleName));
+        }
+        ensureCounter(before, DISABLED_USERS);
+        ensureCounter(before, OPEN_JOBS);
+
+        for (RoleName roleName : RoleName.values()) {
+            statCounterRepository.recountEnabledUsers(enabledUsers(roleName), roleName);
+        }
+        statCounterRepository.recountDisabledUsers(DISABLED_USERS);
+        statCounterRepository.recountJobs(OPEN_JOBS, JobStatus.OPEN);
+        companyRepository.recountOpenJobs(JobStatus.OPEN);
+
+        Map<String, Long> after = readCounters();
+        after.forEach((name, value) -> {
+            Long previous = before.get(name);
+            if (previous != null && previous.longValue() != value) {
+                log.info("Reconciled counter {} from {} to {}", name, previous, value);
+            }
+        });
+    }
+
+    private void ensureCounter(Map<String, Long> existing, String name) {
+        if (!existing.containsKey(name)) {
+            statCounterRepository.save(new StatCounter(name, 0));
+        }
+    }
+
+    private Map<String, Long> readCounters() {
+        Map<String, Long> counters = new HashMap<>();
+        for (StatCounter counter : statCounterRepository.findAll()) {
+            counters.put(counter.getName(), counter.getValue());
+        }
+        return counters;
+    }
+}
@@ -15,7 +15,9 @@ import com.jobly.model.Role.RoleName;
 import com.jobly.model.User;
 import com.jobly.repository.RoleRepository;
 import com.jobly.repository.UserRepository;
+import com.jobly.security.TokenRevocationList;
 import com.jobly.service.CompanyService;
+import com.jobly.service.StatisticsService;
 import com.jobly.service.UserService;
 
 @Service
@@ -25,15 +27,21 @@ public class UserServiceImpl implements UserService {
     private final RoleRepository roleRepository;
     private final CompanyService companyService;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationList tokenRevocationList;
+    private final StatisticsService statisticsService;
 
     public UserServiceImpl(UserRepository userRepository,
                            RoleRepository roleRepository,
                            CompanyService companyService,
-                           PasswordEncoder passwordEncoder) {
+                           PasswordEncoder passwordEncoder,
+                           TokenRevocationList tokenRevocationList,
+                           StatisticsService statisticsService) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.companyService = companyService;
         this.passwordEncoder = passwordEncoder;
+        this.tokenRevocationList = tokenRevocationList;
+        this.statisticsService = statisticsService;
     }
 
     @Override
@@ -55,6 +63,7 @@ public class UserServiceImpl implements UserService {
         user.setRoles(Collections.singleton(role));
 
         userRepository.save(user);
+        statisticsService.recordUserRegistered(roleName);
 
         if (roleName == RoleName.ROLE_COMPANY || roleName == RoleName.ROLE_HIRING_MANAGER) {
             Company company = companyService.createCompanyForUser(
@@ -86,5 +95,10 @@ public class UserServiceImpl implements UserService {
             .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         user.setEnabled(!user.isEnabled());
         userRepository.save(user);
+        statisticsService.recordUserEnabledChanged(
+            user.getRoles().stream().map(Role::getName).toList(), user.isEnabled());
+        if (!user.isEnabled()) {
+            tokenRevocationList.revokeUser(userId);
+        }
     }
 }
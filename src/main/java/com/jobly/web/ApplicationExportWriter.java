@@ -0,0 +1,115 @@
+package com.jobly.web;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobly.dto.application.ApplicationExportRow;
+
+/**
+ * Writes a job's pipeline export one row at a time, straight to the response stream.
+ */
+public abstract class ApplicationExportWriter implements Closeable {
+
+    public static ApplicationExportWriter open(DataFormat format, OutputStream out, ObjectMapper objectMapper) {
+        try {
+            return format == DataFormat.CSV ? new Csv(out) : new Ndjson(objectMapper.getFactory().createGenerator(out));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void write(ApplicationExportRow row) {
+        try {
+            writeRow(row);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    protected abstract void writeRow(ApplicationExportRow row) throws IOException;
+
+    private static final class Csv extends ApplicationExportWriter {
+
+        private static final String HEADER =
+            "application_id,candidate_name,candidate_email,candidate_phone,status,resume_url,applied_at,updated_at";
+        // Spreadsheets evaluate cells starting with these as formulas; phone numbers and plain
+        // numbers are left alone.
+        private static final Pattern FORMULA = Pattern.compile("^[=+\\-@\\t\\r].*", Pattern.DOTALL);
+        private static final Pattern NUMERIC = Pattern.compile("^[+\\-]?[0-9 ().\\-]+$");
+
+        private final Writer out;
+
+        private Csv(OutputStream out) throws IOException {
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.out.write(HEADER);
+            this.out.write("\r\n");
+        }
+
+        @Override
+        protected void writeRow(ApplicationExportRow row) throws IOException {
+            out.write(String.valueOf(row.getApplicationId()));
+            cell(row.getCandidateName());
+            cell(row.getCandidateEmail());
+            cell(row.getCandidatePhone());
+            cell(row.getStatus() != null ? row.getStatus().name() : null);
+            cell(row.getResumeUrl());
+            cell(timestamp(row.getAppliedAt()));
+            cell(timestamp(row.getUpdatedAt()));
+            out.write("\r\n");
+        }
+
+        private void cell(String value) throws IOException {
+            out.write(',');
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+            String safe = FORMULA.matcher(value).matches() && !NUMERIC.matcher(value).matches() ? "'" + value : value;
+            if (safe.indexOf(',') < 0 && safe.indexOf('"') < 0 && safe.indexOf('\n') < 0 && safe.indexOf('\r') < 0) {
+                out.write(safe);
+                return;
+            }
+            out.write('"');
+            out.write(safe.replace("\"", "\"\""));
+            out.write('"');
+        }
+
+        private static String timestamp(LocalDateTime value) {
+            return value != null ? value.toString() : null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    private static final class Ndjson extends ApplicationExportWriter {
+
+        private final JsonGenerator json;
+
+        private Ndjson(JsonGenerator json) {
+            this.json = json;
+        }
+
+        @Override
+        protected void writeRow(ApplicationExportRow row) throws IOException {
+            json.writeObject(row);
+            json.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            json.close();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.jobly.web;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jobly.dto.job.JobBoardStamp;
+import com.jobly.event.JobChangedEvent;
+import com.jobly.service.JobService;
+
+/**
+ * Validators for conditional GETs of the public job pages. A job page is versioned by the latest
+ * change to the job, its company or its poster; the board ({@code /jobs} with any search, filter or
+ * cursor) by the {@link JobBoardStamp} of the open jobs. Both come from the shared database, so a
+ * write on another node moves them here too: job pages on the next request, the board within one
+ * refresh interval. Both are salted with the process start, so a deploy that changes the templates
+ * never answers 304 for markup rendered by the previous build.
+ */
+@Component
+public class ContentVersions {
+
+    /** Lets browsers keep the page but makes them ask before reusing it; shared caches never store it. */
+    public static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private final JobService jobService;
+    private final Instant startedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private final String salt = Long.toString(startedAt.getEpochSecond(), 36);
+    private volatile Board board = new Board(new JobBoardStamp(-1, null), "\"board-" + salt + "\"", startedAt.toEpochMilli());
+
+    public ContentVersions(JobService jobService) {
+        this.jobService = jobService;
+    }
+
+    // After completion rather than after commit, so the search, facet and detail caches that
+    // listen for the same event are up to date before the new version can be served.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        refresh();
+    }
+
+    /** Picks up job writes made on other nodes. */
+    @Scheduled(fixedDelayString = "${jobly.content-versions.refresh:PT5S}")
+    public synchronized void refresh() {
+        JobBoardStamp stamp = jobService.getBoardStamp();
+        if (!stamp.equals(board.stamp())) {
+            String etag = "\"board-" + salt + "-" + stamp.getOpenJobs() + "-"
+                + (stamp.getLastUpdated() != null ? micros(stamp.getLastUpdated()) : 0) + "\"";
+            // Observed here rather than taken from the stamp: a removed job leaves the latest update as it was.
+            board = new Board(stamp, etag, Instant.now().toEpochMilli());
+        }
+    }
+
+    public Board board() {
+        return board;
+    }
+
+    public String jobEtag(Long jobId, LocalDateTime lastModified) {
+        return "\"job-" + jobId + "-" + salt + "-" + micros(lastModified) + "\"";
+    }
+
+    public long jobLastModified(LocalDateTime lastModified) {
+        Instant modified = toInstant(lastModified);
+        return (modified.isAfter(startedAt) ? modified : startedAt).toEpochMilli();
+    }
+
+    private long micros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, toInstant(dateTime));
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    public record Board(JobBoardStamp stamp, String etag, long lastModified) {
+    }
+}
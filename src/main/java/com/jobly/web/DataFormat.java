@@ -0,0 +1,42 @@
+package com.jobly.web;
+
+/**
+ * Row-per-record file formats used for bulk transfers: exports and imports.
+ */
+public enum DataFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    DataFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static DataFormat of(String name) {
+        for (DataFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported format: " + name);
+    }
+
+    public static DataFormat ofFilename(String filename) {
+        int dot = filename != null ? filename.lastIndexOf('.') : -1;
+        if (dot < 0) {
+            throw new IllegalArgumentException("Upload a .csv or .ndjson file");
+        }
+        return of(filename.substring(dot + 1));
+    }
+}
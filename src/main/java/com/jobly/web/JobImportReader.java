@@ -0,0 +1,191 @@
+package com.jobly.web;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobly.dto.job.JobImportRow;
+import com.jobly.dto.job.JobRequest;
+
+/**
+ * Reads an uploaded bulk job import. CSV files need a header naming {@link JobRequest} properties;
+ * NDJSON files hold one {@link JobRequest} object per line. A record that cannot be read becomes an
+ * unreadable row rather than failing the upload, so it shows up in the import report.
+ */
+public final class JobImportReader {
+
+    public static final int MAX_ROWS = 10_000;
+
+    private static final List<String> COLUMNS =
+        List.of("title", "description", "location", "employmentType", "salaryMin", "salaryMax", "companyId");
+
+    private JobImportReader() {
+    }
+
+    public static List<JobImportRow> read(DataFormat format, InputStream in, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        return format == DataFormat.CSV ? readCsv(reader, objectMapper) : readNdjson(reader, objectMapper);
+    }
+
+    private static List<JobImportRow> readCsv(Reader reader, ObjectMapper objectMapper) throws IOException {
+        CsvRecords records = new CsvRecords(reader);
+        List<String> header = records.next();
+        if (header == null) {
+            throw new IllegalArgumentException("The file is empty");
+        }
+        // Spreadsheet exports often start with a byte order mark.
+        header.set(0, header.get(0).replace("\uFEFF", ""));
+        for (String column : header) {
+            if (!COLUMNS.contains(column.trim())) {
+                throw new IllegalArgumentException("Unknown column \"" + column + "\"; expected " + String.join(",", COLUMNS));
+            }
+        }
+
+        List<JobImportRow> rows = new ArrayList<>();
+        List<String> record;
+        while ((record = records.next()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            checkLimit(rows);
+            int line = records.recordLine();
+            if (record.size() != header.size()) {
+                rows.add(JobImportRow.unreadable(line, "Expected " + header.size() + " columns but found " + record.size()));
+                continue;
+            }
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                if (!record.get(i).isBlank()) {
+                    values.put(header.get(i).trim(), record.get(i).trim());
+                }
+            }
+            try {
+                rows.add(JobImportRow.of(line, objectMapper.convertValue(values, JobRequest.class)));
+            } catch (IllegalArgumentException ex) {
+                rows.add(JobImportRow.unreadable(line, describe(ex.getCause())));
+            }
+        }
+        return rows;
+    }
+
+    private static List<JobImportRow> readNdjson(BufferedReader lines, ObjectMapper objectMapper) throws IOException {
+        List<JobImportRow> rows = new ArrayList<>();
+        String text;
+        int line = 0;
+        while ((text = lines.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            checkLimit(rows);
+            try {
+                rows.add(JobImportRow.of(line, objectMapper.readValue(text, JobRequest.class)));
+            } catch (JsonProcessingException ex) {
+                rows.add(JobImportRow.unreadable(line, describe(ex)));
+            }
+        }
+        return rows;
+    }
+
+    private static void checkLimit(List<JobImportRow> rows) {
+        if (rows.size() == MAX_ROWS) {
+            throw new IllegalArgumentException("An import can hold at most " + MAX_ROWS + " jobs");
+        }
+    }
+
+    private static String describe(Throwable ex) {
+        if (ex instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            return mapping.getPath().get(mapping.getPath().size() - 1).getFieldName() + ": invalid value";
+        }
+        return "Not a valid JSON object";
+    }
+
+    /**
+     * RFC 4180 records: comma separated, optionally double-quoted fields that may contain commas,
+     * doubled quotes and line breaks.
+     */
+    private static final class CsvRecords {
+
+        private static final int NONE = -2;
+
+        private final Reader in;
+        private int line = 1;
+        private int recordLine;
+        private int pushedBack = NONE;
+
+        CsvRecords(Reader in) {
+            this.in = in;
+        }
+
+        int recordLine() {
+            return recordLine;
+        }
+
+        List<String> next() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("Unclosed quote in the record starting on line " + recordLine);
+                    }
+                    if (c == '"') {
+                        int next = read();
+                        if (next != '"') {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    }
+                    field.append((char) c);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == '\r' || c == -1) {
+                    if (c == '\r') {
+                        int next = read();
+                        if (next != '\n') {
+                            pushedBack = next;
+                        }
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            if (pushedBack != NONE) {
+                int c = pushedBack;
+                pushedBack = NONE;
+                return c;
+            }
+            int c = in.read();
+            if (c == '\n') {
+                line++;
+            }
+            return c;
+        }
+    }
+}
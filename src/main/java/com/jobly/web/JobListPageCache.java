@@ -0,0 +1,172 @@
+package com.jobly.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobly.event.JobChangedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Serves the public job list to anonymous visitors from memory. The first request for a page
+ * (cursor, search and filters) renders it as usual; the HTML is kept with a gzip copy and later
+ * requests are answered without touching the service, the database or Thymeleaf.
+ *
+ * Signed-in users get a personalised navbar and always render. Only pages the job list controller
+ * marked as rendered are stored, never an error page. Every job write clears the cache once
+ * committed; a render that raced with a write is not stored. Stored pages keep the board
+ * version they were rendered at, so a conditional request is answered with a 304 from memory.
+ */
+@Component
+public class JobListPageCache extends OncePerRequestFilter {
+
+    private static final List<String> PATHS = List.of("/", "/jobs");
+    private static final List<String> KEY_PARAMETERS = List.of("q", "cursor", "employmentType", "location", "salaryBand");
+    private static final UrlPathHelper URL_PATH_HELPER = UrlPathHelper.defaultInstance;
+    private static final String RENDERED_ATTRIBUTE = JobListPageCache.class.getName() + ".RENDERED";
+
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+    private final ContentVersions contentVersions;
+    private final Cache<String, Page> pages;
+    private final boolean enabled;
+
+    public JobListPageCache(ContentVersions contentVersions,
+                            MeterRegistry meterRegistry,
+                            @Value("${jobly.page-cache.enabled:true}") boolean enabled,
+                            @Value("${jobly.page-cache.max-pages:1000}") long maxPages,
+                            @Value("${jobly.page-cache.ttl:PT10M}") Duration ttl) {
+        this.contentVersions = contentVersions;
+        this.enabled = enabled;
+        this.pages = Caffeine.newBuilder()
+            .maximumSize(maxPages)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "jobListPages");
+    }
+
+    /**
+     * Called by the controller once the job list is about to render; anything else answered on
+     * these paths (error pages included) is passed through without being stored.
+     */
+    public static void markRendered(HttpServletRequest request) {
+        request.setAttribute(RENDERED_ATTRIBUTE, Boolean.TRUE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        pages.invalidateAll();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+            || !HttpMethod.GET.matches(request.getMethod())
+            || !PATHS.contains(URL_PATH_HELPER.getPathWithinApplication(request))
+            || !isAnonymous(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        String key = key(request);
+        ContentVersions.Board board = contentVersions.board();
+        Page cached = pages.getIfPresent(key);
+        // The cache is cleared after commit but the version moves after completion; a page stored
+        // in between is older than the board it would be tagged with.
+        if (cached != null && cached.board().equals(board)) {
+            cached.writeTo(new ServletWebRequest(request, response));
+            return;
+        }
+
+        ContentCachingResponseWrapper rendered = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, rendered);
+        if (request.getAttribute(RENDERED_ATTRIBUTE) != null
+            && rendered.getStatus() == HttpServletResponse.SC_OK && rendered.getContentType() != null
+            && rendered.getContentType().startsWith("text/html") && contentVersions.board().equals(board)) {
+            pages.put(key, new Page(board, rendered.getContentType(), rendered.getContentAsByteArray()));
+        }
+        rendered.copyBodyToResponse();
+    }
+
+    private boolean isAnonymous(Authentication authentication) {
+        return authentication == null || trustResolver.isAnonymous(authentication);
+    }
+
+    private static String key(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder();
+        for (String name : KEY_PARAMETERS) {
+            String[] values = request.getParameterValues(name);
+            if (values != null) {
+                for (String value : values) {
+                    key.append(name).append('=').append(value).append('&');
+                }
+            }
+        }
+        return key.toString();
+    }
+
+    private record Page(ContentVersions.Board board, String contentType, byte[] html, byte[] gzip) {
+
+        Page(ContentVersions.Board board, String contentType, byte[] html) {
+            this(board, contentType, html, gzip(html));
+        }
+
+        void writeTo(ServletWebRequest webRequest) throws IOException {
+            HttpServletRequest request = webRequest.getRequest();
+            HttpServletResponse response = webRequest.getResponse();
+            response.setHeader(HttpHeaders.CACHE_CONTROL, ContentVersions.CACHE_CONTROL);
+            if (webRequest.checkNotModified(board.etag(), board.lastModified())) {
+                return;
+            }
+            String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+            byte[] body = acceptEncoding != null && acceptEncoding.contains("gzip") ? gzip : html;
+            response.setContentType(contentType);
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (body == gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+
+        private static byte[] gzip(byte[] html) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(html.length / 4);
+            try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(html);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return compressed.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+-- Embedded H2 (dev, perf and test profiles) in MySQL compatibility mode. Keep in step with
+-- db/migration/mysql.
+
+create table users (
+    id bigint generated by default as identity,
+    full_name varchar(120) not null,
+    email varchar(120) not null,
+    password varchar(255) not null,
+    phone varchar(20),
+    enabled boolean not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    created_by varchar(255),
+    updated_by varchar(255),
+    primary key (id),
+    constraint uk_users_email unique (email)
+);
+
+create table roles (
+    id bigint generated by default as identity,
+    name enum ('ROLE_CANDIDATE','ROLE_COMPANY','ROLE_HIRING_MANAGER','ROLE_SUPER_ADMIN') not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    created_by varchar(255),
+    updated_by varchar(255),
+    primary key (id),
+    constraint uk_roles_name unique (name)
+);
+
+create table user_roles (
+    user_id bigint not null,
+    role_id bigint not null,
+    primary key (role_id, user_id),
+    constraint fk_user_roles_user foreign key (user_id) references users (id),
+    constraint fk_user_roles_role foreign key (role_id) references roles (id)
+);
+
+create table companies (
+    id bigint generated by default as identity,
+    name varchar(150) not null,
+    description varchar(500),
+    website varchar(255),
+    address varchar(255),
+    owner_user_id bigint,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    created_by varchar(255),
+    updated_by varchar(255),
+    primary key (id),
+    constraint uk_companies_name unique (name),
+    constraint uk_companies_owner unique (owner_user_id),
+    constraint fk_companies_owner foreign key (owner_user_id) references users (id)
+);
+
+create table jobs (
+    id bigint generated by default as identity,
+    title varchar(150) not null,
+    description text not null,
+    location varchar(100),
+    employment_type enum ('CONTRACT','FREELANCE','FULL_TIME','INTERN','PART_TIME','TEMPORARY') not null,
+    salary_min integer,
+    salary_max integer,
+    status enum ('CLOSED','DRAFT','FILLED','ON_HOLD','OPEN') not null,
+    company_id bigint,
+    posted_by_user_id bigint,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    created_by varchar(255),
+    updated_by varchar(255),
+    primary key (id),
+    constraint fk_jobs_company foreign key (company_id) references companies (id),
+    constraint fk_jobs_posted_by foreign key (posted_by_user_id) references users (id)
+);
+
+create table job_applications (
+    id bigint generated by default as identity,
+    job_id bigint not null,
+    candidate_id bigint not null,
+    cover_letter text,
+    resume_url varchar(255),
+    status enum ('HIRED','REJECTED','SHORTLISTED','SUBMITTED','UNDER_REVIEW') not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    created_by varchar(255),
+    updated_by varchar(255),
+    primary key (id),
+    constraint fk_job_applications_job foreign key (job_id) references jobs (id),
+    constraint fk_job_applications_candidate foreign key (candidate_id) references users (id)
+);
@@ -0,0 +1,26 @@
+-- Objects added since the ddl-auto=update schema; see db/migration/mysql.
+
+create table revoked_tokens (
+    id bigint generated by default as identity,
+    token_id varchar(64),
+    user_id bigint,
+    revoked_at timestamp(6) with time zone not null,
+    expires_at timestamp(6) with time zone not null,
+    primary key (id)
+);
+
+create table stat_counters (
+    name varchar(100) not null,
+    counter_value bigint not null,
+    primary key (name)
+);
+
+alter table companies add column open_job_count bigint default 0 not null;
+update companies c
+set open_job_count = (select count(*) from jobs j where j.company_id = c.id and j.status = 'OPEN');
+
+-- Embedded databases are created empty by V1, so the sequences start at 1; IdSequences moves them
+-- past any existing rows on startup.
+create sequence users_seq start with 1 increment by 50;
+create sequence companies_seq start with 1 increment by 50;
+create sequence jobs_seq start with 1 increment by 50;
@@ -0,0 +1,20 @@
+-- One index per repository query path; QueryIndexUsageTest fails when a query scans a table.
+
+-- findByStatus, findFirstPageByStatus / findPageByStatusAfter (keyset: created_at desc, id desc),
+-- and the open-job recounts
+create index idx_jobs_status_created on jobs (status, created_at, id);
+-- findByPostedById
+create index idx_jobs_posted_by on jobs (posted_by_user_id, created_at);
+-- CompanyRepository.recountOpenJobs
+create index idx_jobs_company_status on jobs (company_id, status);
+
+-- findByJobId and the recruiter's bulk status update
+create index idx_job_applications_job_status on job_applications (job_id, status);
+-- findByCandidateId
+create index idx_job_applications_candidate on job_applications (candidate_id, created_at);
+
+-- findAllByOrderByCreatedAtDesc (recent users on the admin dashboard); descending so H2 reads it in order
+create index idx_users_created on users (created_at desc, id desc);
+
+-- TokenRevocationList refresh and purge
+create index idx_revoked_tokens_expires on revoked_tokens (expires_at);
@@ -0,0 +1,8 @@
+-- One application per candidate and job. Duplicates left by double submits are removed first,
+-- keeping the earliest row of each pair.
+delete from job_applications a
+where exists (select 1 from job_applications b
+              where b.job_id = a.job_id and b.candidate_id = a.candidate_id and b.id < a.id);
+
+-- Also backs existsByJobIdAndCandidateId and findAppliedJobIds
+alter table job_applications add constraint uk_job_applications_job_candidate unique (job_id, candidate_id);
@@ -0,0 +1,90 @@
+-- Schema exactly as Hibernate created it with ddl-auto=update, before Flyway took it over. Existing
+-- databases are baselined at this version (spring.flyway.baseline-on-migrate) and start from V2, so
+-- nothing added since belongs here.
+
+create table users (
+    id bigint not null auto_increment,
+    full_name varchar(120) not null,
+    email varchar(120) not null,
+    password varchar(255) not null,
+    phone varchar(20),
+    enabled bit not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    created_by varchar(255),
+    updated_by varchar(255),
+    primary key (id),
+    constraint uk_users_email unique (email)
+) engine=InnoDB;
+
+create table roles (
+    id bigint not null auto_increment,
+    name enum ('ROLE_CANDIDATE','ROLE_COMPANY','ROLE_HIRING_MANAGER','ROLE_SUPER_ADMIN') not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    created_by varchar(255),
+    updated_by varchar(255),
+    primary key (id),
+    constraint uk_roles_name unique (name)
+) engine=InnoDB;
+
+create table user_roles (
+    user_id bigint not null,
+    role_id bigint not null,
+    primary key (role_id, user_id),
+    constraint fk_user_roles_user foreign key (user_id) references users (id),
+    constraint fk_user_roles_role foreign key (role_id) references roles (id)
+) engine=InnoDB;
+
+create table companies (
+    id bigint not null auto_increment,
+    name varchar(150) not null,
+    description varchar(500),
+    website varchar(255),
+    address varchar(255),
+    owner_user_id bigint,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    created_by varchar(255),
+    updated_by varchar(255),
+    primary key (id),
+    constraint uk_companies_name unique (name),
+    constraint uk_companies_owner unique (owner_user_id),
+    constraint fk_companies_owner foreign key (owner_user_id) references users (id)
+) engine=InnoDB;
+
+create table jobs (
+    id bigint not null auto_increment,
+    title varchar(150) not null,
+    description text not null,
+    location varchar(100),
+    employment_type enum ('CONTRACT','FREELANCE','FULL_TIME','INTERN','PART_TIME','TEMPORARY') not null,
+    salary_min integer,
+    salary_max integer,
+    status enum ('CLOSED','DRAFT','FILLED','ON_HOLD','OPEN') not null,
+    company_id bigint,
+    posted_by_user_id bigint,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    created_by varchar(255),
+    updated_by varchar(255),
+    primary key (id),
+    constraint fk_jobs_company foreign key (company_id) references companies (id),
+    constraint fk_jobs_posted_by foreign key (posted_by_user_id) references users (id)
+) engine=InnoDB;
+
+create table job_applications (
+    id bigint not null auto_increment,
+    job_id bigint not null,
+    candidate_id bigint not null,
+    cover_letter text,
+    resume_url varchar(255),
+    status enum ('HIRED','REJECTED','SHORTLISTED','SUBMITTED','UNDER_REVIEW') not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    created_by varchar(255),
+    updated_by varchar(255),
+    primary key (id),
+    constraint fk_job_applications_job foreign key (job_id) references jobs (id),
+    constraint fk_job_applications_candidate foreign key (candidate_id) references users (id)
+) engine=InnoDB;
@@ -0,0 +1,33 @@
+-- Objects added since the ddl-auto=update schema: dashboard counters, the token revocation list,
+-- per-company open-job counts, and the id sequences of users, companies and jobs.
+
+create table revoked_tokens (
+    id bigint not null auto_increment,
+    token_id varchar(64),
+    user_id bigint,
+    revoked_at datetime(6) not null,
+    expires_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+-- Rows are created and recounted by StatisticsService on startup
+create table stat_counters (
+    name varchar(100) not null,
+    counter_value bigint not null,
+    primary key (name)
+) engine=InnoDB;
+
+alter table companies add column open_job_count bigint not null default 0;
+update companies c
+set c.open_job_count = (select count(*) from jobs j where j.company_id = c.id and j.status = 'OPEN');
+
+-- MySQL has no sequences; Hibernate emulates users_seq etc. with one-row tables (see IdSequences).
+-- The pooled optimizer reads next_val as the top of a block of 50 ids, so each table starts 50 past
+-- the highest id that auto_increment handed out. The id columns keep their auto_increment attribute;
+-- it is unused once Hibernate supplies the ids, and dropping it would rebuild every referenced table.
+create table users_seq (next_val bigint) engine=InnoDB;
+insert into users_seq select coalesce(max(id), 0) + 50 from users;
+create table companies_seq (next_val bigint) engine=InnoDB;
+insert into companies_seq select coalesce(max(id), 0) + 50 from companies;
+create table jobs_seq (next_val bigint) engine=InnoDB;
+insert into jobs_seq select coalesce(max(id), 0) + 50 from jobs;
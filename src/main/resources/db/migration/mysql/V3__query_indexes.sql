@@ -0,0 +1,21 @@
+-- One index per repository query path. QueryIndexUsageTest checks the plans on H2; InnoDB reads
+-- these the same way, and appends the primary key to every secondary index.
+
+-- findByStatus, findFirstPageByStatus / findPageByStatusAfter (keyset: created_at desc, id desc),
+-- and the open-job recounts. The keyset pages walk this index backwards, so it needs no desc columns.
+create index idx_jobs_status_created on jobs (status, created_at, id);
+-- findByPostedById
+create index idx_jobs_posted_by on jobs (posted_by_user_id, created_at);
+-- CompanyRepository.recountOpenJobs; also replaces the index InnoDB created for fk_jobs_company
+create index idx_jobs_company_status on jobs (company_id, status);
+
+-- findByJobId and the recruiter's bulk status update; also replaces the index for fk_job_applications_job
+create index idx_job_applications_job_status on job_applications (job_id, status);
+-- findByCandidateId; also replaces the index for fk_job_applications_candidate
+create index idx_job_applications_candidate on job_applications (candidate_id, created_at);
+
+-- findAllByOrderByCreatedAtDesc (recent users on the admin dashboard), read backwards
+create index idx_users_created on users (created_at, id);
+
+-- TokenRevocationList refresh and purge
+create index idx_revoked_tokens_expires on revoked_tokens (expires_at);
@@ -0,0 +1,7 @@
+-- One application per candidate and job. Duplicates left by double submits are removed first,
+-- keeping the earliest row of each pair.
+delete a from job_applications a
+join job_applications b on b.job_id = a.job_id and b.candidate_id = a.candidate_id and b.id < a.id;
+
+-- Also backs existsByJobIdAndCandidateId and findAppliedJobIds
+alter table job_applications add constraint uk_job_applications_job_candidate unique (job_id, candidate_id);
@@ -0,0 +1,2 @@
+-- JobRepository.findBoardStamp: open-job count and latest update, read from the index alone
+create index idx_jobs_status_updated on jobs (status, updated_at);
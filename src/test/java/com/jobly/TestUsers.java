@@ -0,0 +1,25 @@
+package com.jobly;
+
+import com.jobly.dto.auth.RegisterRequest;
+import com.jobly.model.User;
+import com.jobly.service.UserService;
+
+/**
+ * Registers throwaway users for tests that need someone other than the seeded accounts.
+ */
+public final class TestUsers {
+
+    public static final String PASSWORD = "Password@123";
+
+    private TestUsers() {
+    }
+
+    public static User registerCandidate(UserService userService, String fullName, String email) {
+        RegisterRequest request = new RegisterRequest();
+        request.setFullName(fullName);
+        request.setEmail(email);
+        request.setPassword(PASSWORD);
+        request.setRole("ROLE_CANDIDATE");
+        return userService.registerUser(request);
+    }
+}
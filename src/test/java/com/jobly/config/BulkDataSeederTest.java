@@ -0,0 +1,110 @@
+package com.jobly.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.jobly.model.Company;
+import com.jobly.model.Job;
+import com.jobly.model.User;
+import com.jobly.model.enums.EmploymentType;
+import com.jobly.model.enums.JobStatus;
+import com.jobly.repository.CompanyRepository;
+import com.jobly.repository.JobRepository;
+import com.jobly.repository.UserRepository;
+import com.jobly.service.StatisticsService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:jobly-bulk-seed;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "jobly.seed.bulk.enabled=true",
+    "jobly.seed.bulk.users=2000",
+    "jobly.seed.bulk.jobs=300",
+    "jobly.seed.bulk.applications=6000",
+    "jobly.seed.bulk.batch-size=250",
+    "jobly.seed.bulk.threads=4"
+})
+@ActiveProfiles("test")
+class BulkDataSeederTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void seedsTheConfiguredVolumesWithConsistentReferences() {
+        assertThat(count("select count(*) from users where email like '%" + BulkDataSeeder.EMAIL_DOMAIN + "'"))
+            .isEqualTo(2000);
+        assertThat(count("select count(*) from user_roles r join users u on u.id = r.user_id "
+            + "where u.email like '%" + BulkDataSeeder.EMAIL_DOMAIN + "'")).isEqualTo(2000);
+        assertThat(count("select count(*) from companies where website like '%.seed.jobly.test'")).isEqualTo(60);
+        assertThat(count("select count(*) from jobs where created_by = 'system'")).isGreaterThanOrEqualTo(300);
+        assertThat(count("select count(*) from job_applications")).isBetween(4800L, 7200L);
+        assertThat(count("select count(*) from (select job_id, candidate_id from job_applications "
+            + "group by job_id, candidate_id having count(*) > 1) duplicates")).isZero();
+        assertThat(count("select count(*) from job_applications a join jobs j on j.id = a.job_id "
+            + "where j.status = 'DRAFT'")).isZero();
+
+        User seeded = userRepository.findByEmail(BulkDataSeeder.email(1500)).orElseThrow();
+        assertThat(passwordEncoder.matches(BulkDataSeeder.PASSWORD, seeded.getPassword())).isTrue();
+        // Counters are reconciled once the application is ready, after the seeder ran.
+        assertThat(statisticsService.getDashboardStats().getOpenJobs())
+            .isEqualTo(jobRepository.findByStatus(JobStatus.OPEN).size());
+    }
+
+    @Test
+    void hibernateInsertsAfterSeedingAreBatchedAndDoNotCollide() {
+        User poster = userRepository.findByEmail(BulkDataSeeder.email(0)).orElseThrow();
+        Company company = companyRepository.findAll().get(0);
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Job job = new Job();
+            job.setTitle("Batched job " + i);
+            job.setDescription("Inserted through Hibernate after the bulk seed.");
+            job.setEmploymentType(EmploymentType.FULL_TIME);
+            job.setStatus(JobStatus.DRAFT);
+            job.setCompany(company);
+            job.setPostedBy(poster);
+            jobs.add(job);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        jobRepository.saveAll(jobs);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobly.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.jobly.repository.JobRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+class DevProfileTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void bootsOnTheEmbeddedDatabaseWithSchemaAndStartupTime() {
+        assertThat(((HikariDataSource) dataSource).getJdbcUrl()).startsWith("jdbc:h2:mem:");
+        assertThat(jobRepository.count()).isPositive();
+        assertThat(meterRegistry.find("application.ready.time").timeGauge()).isNotNull();
+    }
+}
@@ -0,0 +1,114 @@
+package com.jobly.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobly.TestUsers;
+import com.jobly.dto.application.ApplicationRequest;
+import com.jobly.dto.job.JobResponse;
+import com.jobly.repository.UserRepository;
+import com.jobly.security.UserPrincipal;
+import com.jobly.service.ApplicationService;
+import com.jobly.service.JobService;
+import com.jobly.service.UserService;
+
+@SpringBootTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:jobly-export;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ApplicationExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void exportsTheWholePipelineAsCsvAndNdjson() throws Exception {
+        UserPrincipal poster = principal("sarah.williams@techcorp.com");
+        JobResponse job = jobService.listJobsForUser(poster).get(0);
+        UserPrincipal candidate = UserPrincipal.of(
+            TestUsers.registerCandidate(userService, "=HYPERLINK(\"x\"), Mallory", "mallory@example.com"));
+        applicationService.applyToJob(application(job.getId()), candidate);
+        int applications = applicationService.getApplicationsForJob(job.getId()).size();
+
+        String csv = mockMvc.perform(get("/jobs/{id}/applications/export", job.getId()).with(user(poster)))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"job-" + job.getId() + "-applications.csv\""))
+            .andReturn().getResponse().getContentAsString();
+        List<String> lines = csv.lines().toList();
+        assertThat(lines).hasSize(applications + 1);
+        assertThat(lines.get(0)).startsWith("application_id,candidate_name,candidate_email");
+        assertThat(lines).anyMatch(line -> line.contains(",\"'=HYPERLINK(\"\"x\"\"), Mallory\",mallory@example.com,"));
+
+        String ndjson = mockMvc.perform(get("/jobs/{id}/applications/export", job.getId()).param("format", "ndjson")
+                .with(user(poster)))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "application/x-ndjson"))
+            .andReturn().getResponse().getContentAsString();
+        List<JsonNode> rows = ndjson.lines().map(this::readTree).toList();
+        assertThat(rows).hasSize(applications);
+        assertThat(rows).anyMatch(row -> row.get("candidateEmail").asText().equals("mallory@example.com")
+            && row.get("status").asText().equals("SUBMITTED"));
+    }
+
+    @Test
+    void onlyThoseWhoManageTheJobCanExport() throws Exception {
+        Long jobId = jobService.listJobsForUser(principal("sarah.williams@techcorp.com")).get(0).getId();
+
+        mockMvc.perform(get("/jobs/{id}/applications/export", jobId).with(user(principal("david.brown@innovate.com"))))
+            .andExpect(redirectedUrl("/jobs/" + jobId))
+            .andExpect(header().doesNotExist("Content-Disposition"));
+        mockMvc.perform(get("/jobs/{id}/applications/export", jobId).param("format", "xlsx")
+                .with(user(principal("sarah.williams@techcorp.com"))))
+            .andExpect(status().isBadRequest());
+    }
+
+    private UserPrincipal principal(String email) {
+        return UserPrincipal.of(userRepository.findByEmail(email).orElseThrow());
+    }
+
+    private static ApplicationRequest application(Long jobId) {
+        ApplicationRequest request = new ApplicationRequest();
+        request.setJobId(jobId);
+        request.setCoverLetter("Keen.");
+        return request;
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.jobly.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.flash;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jobly.TestUsers;
+import com.jobly.dto.application.ApplicationRequest;
+import com.jobly.event.ApplicationSubmittedEvent;
+import com.jobly.exception.DuplicateApplicationException;
+import com.jobly.repository.JobApplicationRepository;
+import com.jobly.security.UserPrincipal;
+import com.jobly.service.ApplicationService;
+import com.jobly.service.JobService;
+import com.jobly.service.UserService;
+import com.jobly.service.impl.AppliedJobFilter;
+
+@SpringBootTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:jobly-duplicates;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DuplicateApplicationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private AppliedJobFilter appliedJobFilter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SubmittedEventRecorder submittedEvents;
+
+    @Test
+    void secondSubmitReturnsToTheJobAndMarksItApplied() throws Exception {
+        UserPrincipal candidate = UserPrincipal.of(TestUsers.registerCandidate(userService, "Eager Candidate", "double.click@example.com"));
+        Long jobId = jobService.listOpenJobs().get(0).getId();
+        assertThat(appliedJobFilter.mightContain(jobId, candidate.id())).isFalse();
+
+        mockMvc.perform(post("/jobs/{id}/apply", jobId).param("coverLetter", "Keen.").with(user(candidate)).with(csrf()))
+            .andExpect(redirectedUrl("/jobs/" + jobId))
+            .andExpect(flash().attribute("successMessage", "Application submitted."));
+        mockMvc.perform(post("/jobs/{id}/apply", jobId).param("coverLetter", "Keen.").with(user(candidate)).with(csrf()))
+            .andExpect(redirectedUrl("/jobs/" + jobId))
+            .andExpect(flash().attribute("errorMessage", "You have already applied to this job."));
+
+        assertThat(jobApplicationRepository.findByCandidateId(candidate.id())).hasSize(1);
+        mockMvc.perform(get("/jobs").with(user(candidate)))
+            .andExpect(model().attribute("appliedJobIds", Set.of(jobId)));
+        mockMvc.perform(get("/jobs/{id}", jobId).with(user(candidate)))
+            .andExpect(model().attribute("applied", true));
+    }
+
+    @Test
+    void uniqueKeyCatchesPairsTheFilterHasNotSeen() {
+        UserPrincipal candidate = UserPrincipal.of(TestUsers.registerCandidate(userService, "Eager Candidate", "other.node@example.com"));
+        Long jobId = jobService.listOpenJobs().get(1).getId();
+        // Written behind the application's back, as a concurrent request on another node would.
+        jdbcTemplate.update("insert into job_applications (job_id, candidate_id, status, created_at, updated_at) "
+            + "values (?, ?, 'SUBMITTED', current_timestamp, current_timestamp)", jobId, candidate.id());
+        assertThat(appliedJobFilter.mightContain(jobId, candidate.id())).isFalse();
+
+        ApplicationRequest request = new ApplicationRequest();
+        request.setJobId(jobId);
+        assertThatThrownBy(() -> applicationService.applyToJob(request, candidate))
+            .isInstanceOf(DuplicateApplicationException.class);
+        assertThat(jobApplicationRepository.findByCandidateId(candidate.id())).hasSize(1);
+    }
+
+    @Test
+    void synchronousSubmitPublishesInsideTheWriteTransaction() {
+        UserPrincipal candidate = UserPrincipal.of(TestUsers.registerCandidate(userService, "Eager Candidate", "one.transaction@example.com"));
+        ApplicationRequest request = new ApplicationRequest();
+        request.setJobId(jobService.listOpenJobs().get(2).getId());
+        submittedEvents.inTransaction.clear();
+
+        applicationService.submitApplication(request, candidate);
+
+        assertThat(submittedEvents.inTransaction).containsExactly(true);
+    }
+
+    @TestConfiguration
+    static class SubmittedEventRecorderConfig {
+
+        @Bean
+        SubmittedEventRecorder submittedEventRecorder() {
+            return new SubmittedEventRecorder();
+        }
+    }
+
+    static class SubmittedEventRecorder {
+
+        private final List<Boolean> inTransaction = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        public void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+            inTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.jobly.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobly.dto.job.JobResponse;
+import com.jobly.service.JobService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties =
+    "spring.datasource.url=jdbc:h2:mem:jobly-api;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class JobApiControllerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JobService jobService;
+
+    @Test
+    void pagesThroughOpenJobsWithACursor() throws Exception {
+        List<Long> expected = jobService.listOpenJobs().stream()
+            .sorted((a, b) -> b.getCreatedAt().equals(a.getCreatedAt())
+                ? b.getId().compareTo(a.getId()) : b.getCreatedAt().compareTo(a.getCreatedAt()))
+            .map(JobResponse::getId)
+            .toList();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            JsonNode page = get("/api/v1/jobs?limit=2" + (cursor == null ? "" : "&cursor=" + cursor)).body();
+            page.get("jobs").forEach(job -> seen.add(job.get("id").asLong()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null);
+
+        assertThat(expected).hasSizeGreaterThan(2);
+        assertThat(seen).isEqualTo(expected);
+    }
+
+    @Test
+    void selectsFieldsAndAppliesFilters() throws Exception {
+        JsonNode page = get("/api/v1/jobs?employmentType=FULL_TIME&fields=title,id,employmentType").body();
+
+        assertThat(page.get("jobs")).isNotEmpty();
+        page.get("jobs").forEach(job -> {
+            assertThat(job.fieldNames()).toIterable().containsExactly("id", "title", "employmentType");
+            assertThat(job.get("employmentType").asText()).isEqualTo("FULL_TIME");
+        });
+
+        JsonNode job = get("/api/v1/jobs/" + page.get("jobs").get(0).get("id").asLong()).body();
+        assertThat(job.has("companyName")).isTrue();
+        assertThat(job.has("postedByEmail")).isFalse();
+    }
+
+    @Test
+    void rejectsBadRequestsWithJsonErrors() throws Exception {
+        Response unknownField = get("/api/v1/jobs?fields=id,salary");
+        assertThat(unknownField.status()).isEqualTo(400);
+        assertThat(unknownField.body().get("detail").asText()).isEqualTo("Unknown field: salary");
+
+        assertThat(get("/api/v1/jobs?cursor=nonsense").status()).isEqualTo(400);
+        assertThat(get("/api/v1/jobs/999999").status()).isEqualTo(404);
+    }
+
+    @Test
+    void gzipsLargePagesForClientsThatAcceptIt() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/jobs?limit=1000"))
+            .header("Accept-Encoding", "gzip")
+            .build();
+        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        try (InputStream body = new GZIPInputStream(response.body())) {
+            assertThat(objectMapper.readTree(body).get("jobs")).isNotEmpty();
+        }
+    }
+
+    private Response get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        return new Response(response.statusCode(), objectMapper.readTree(response.body()));
+    }
+
+    private record Response(int status, JsonNode body) {
+    }
+}
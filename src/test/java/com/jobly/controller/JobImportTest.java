@@ -0,0 +1,132 @@
+package com.jobly.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jobly.dto.job.JobFilter;
+import com.jobly.dto.job.JobImportReport;
+import com.jobly.model.Company;
+import com.jobly.repository.CompanyRepository;
+import com.jobly.repository.UserRepository;
+import com.jobly.security.UserPrincipal;
+import com.jobly.service.JobService;
+import com.jobly.service.StatisticsService;
+
+@SpringBootTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:jobly-import;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JobImportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void importsValidRowsAndReportsTheRest() throws Exception {
+        Company company = companyRepository.findAll().get(0);
+        long openJobs = statisticsService.getDashboardStats().getOpenJobs();
+        long companyOpenJobs = company.getOpenJobCount();
+        String csv = "title,description,location,employmentType,salaryMin,salaryMax,companyId\r\n"
+            + "Quokka Wrangler,\"Keeps the quokkas, and their keepers, happy\",Perth,FULL_TIME,50000,70000," + company.getId() + "\r\n"
+            + ",No title,Perth,FULL_TIME,,," + company.getId() + "\r\n"
+            + "Night Baker,\"Bakes\nat night\",Leeds,SHIFT_WORK,,," + company.getId() + "\r\n"
+            + "Ghost Writer,Writes,Remote,CONTRACT,lots,," + company.getId() + "\r\n"
+            + "Lighthouse Keeper,Keeps the light,Skerryvore,PART_TIME,,,999999\r\n"
+            + "Quokka Photographer,Takes photos,Perth,FREELANCE,,," + company.getId() + "\r\n";
+
+        JobImportReport report = (JobImportReport) mockMvc.perform(multipart("/jobs/import")
+                .file(new MockMultipartFile("file", "jobs.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)))
+                .with(user(principal("sarah.williams@techcorp.com")))
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andReturn().getModelAndView().getModel().get("report");
+
+        assertThat(report.getRows()).isEqualTo(6);
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(JobImportReport.RowError::getLine).containsExactly(3, 4, 6, 7);
+        assertThat(report.getErrors()).extracting(JobImportReport.RowError::getMessage).containsExactly(
+            "title: must not be blank",
+            "employmentType: must be one of [FULL_TIME, PART_TIME, CONTRACT, INTERN, TEMPORARY, FREELANCE]",
+            "salaryMin: invalid value",
+            "companyId: no company with id 999999");
+
+        assertThat(jobService.searchOpenJobs("quokka", new JobFilter(), 10))
+            .extracting("title").containsExactlyInAnyOrder("Quokka Wrangler", "Quokka Photographer");
+        assertThat(statisticsService.getDashboardStats().getOpenJobs()).isEqualTo(openJobs + 2);
+        assertThat(companyRepository.findById(company.getId()).orElseThrow().getOpenJobCount())
+            .isEqualTo(companyOpenJobs + 2);
+    }
+
+    @Test
+    void rejectsOverLengthFieldsRowByRow() throws Exception {
+        Company company = companyRepository.findAll().get(0);
+        String ndjson = "{\"title\":\"Walrus Dentist\",\"description\":\"Arctic dentistry\",\"location\":\""
+            + "Longyearbyen ".repeat(8) + "\",\"employmentType\":\"CONTRACT\",\"companyId\":" + company.getId() + "}\n"
+            + "{\"title\":\"Walrus Hygienist\",\"description\":\"Arctic hygiene\",\"location\":\"Longyearbyen\","
+            + "\"employmentType\":\"CONTRACT\",\"companyId\":" + company.getId() + "}\n";
+
+        JobImportReport report = (JobImportReport) mockMvc.perform(multipart("/jobs/import")
+                .file(new MockMultipartFile("file", "jobs.ndjson", "application/x-ndjson", ndjson.getBytes(StandardCharsets.UTF_8)))
+                .with(user(principal("sarah.williams@techcorp.com")))
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andReturn().getModelAndView().getModel().get("report");
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getErrors()).extracting(JobImportReport.RowError::getMessage)
+            .containsExactly("location: size must be between 0 and 100");
+        assertThat(jobService.searchOpenJobs("walrus", new JobFilter(), 10))
+            .extracting("title").containsExactly("Walrus Hygienist");
+    }
+
+    @Test
+    void rejectsFilesItCannotRead() throws Exception {
+        mockMvc.perform(multipart("/jobs/import")
+                .file(new MockMultipartFile("file", "jobs.xlsx", "application/octet-stream", new byte[] {1, 2, 3}))
+                .with(user(principal("sarah.williams@techcorp.com")))
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(model().attribute("errorMessage", "Unsupported format: xlsx"))
+            .andExpect(model().attributeDoesNotExist("report"));
+        mockMvc.perform(multipart("/jobs/import")
+                .file(new MockMultipartFile("file", "jobs.csv", "text/csv", "title,salary\r\n".getBytes(StandardCharsets.UTF_8)))
+                .with(user(principal("sarah.williams@techcorp.com")))
+                .with(csrf()))
+            .andExpect(model().attributeExists("errorMessage"));
+        mockMvc.perform(multipart("/jobs/import")
+                .file(new MockMultipartFile("file", "jobs.csv", "text/csv", new byte[0]))
+                .with(user(principal("john.doe@example.com")))
+                .with(csrf()))
+            .andExpect(status().isForbidden());
+    }
+
+    private UserPrincipal principal(String email) {
+        return UserPrincipal.of(userRepository.findByEmail(email).orElseThrow());
+    }
+}
@@ -0,0 +1,103 @@
+package com.jobly.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jobly.TestUsers;
+import com.jobly.dto.application.ApplicationRequest;
+import com.jobly.dto.job.JobRequest;
+import com.jobly.dto.job.JobResponse;
+import com.jobly.repository.UserRepository;
+import com.jobly.security.UserPrincipal;
+import com.jobly.service.ApplicationService;
+import com.jobly.service.JobService;
+import com.jobly.service.UserService;
+
+@SpringBootTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:jobly-recommend;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RecommendedJobsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void followsNewApplicationsAndNewJobs() throws Exception {
+        UserPrincipal poster = UserPrincipal.of(userRepository.findByEmail("sarah.williams@techcorp.com").orElseThrow());
+        Long companyId = jobService.listJobsForUser(poster).get(0).getCompanyId();
+        JobResponse applied = jobService.createJob(
+            jobRequest("Apiary Robotics Engineer", "Program pollination drones for apiary hives.", companyId), poster);
+        UserPrincipal candidate = UserPrincipal.of(TestUsers.registerCandidate(userService, "Bea Keeper", "bea.keeper@example.com"));
+        assertThat(recommendedIds(candidate)).isEmpty();
+
+        ApplicationRequest application = new ApplicationRequest();
+        application.setJobId(applied.getId());
+        application.setCoverLetter("Beekeeping and drones are my two loves.");
+        applicationService.applyToJob(application, candidate);
+        JobResponse similar = jobService.createJob(
+            jobRequest("Pollination Drone Pilot", "Fly drones over apiary hives at dawn.", companyId), poster);
+
+        List<Long> recommended = recommendedIds(candidate);
+        assertThat(recommended).first().isEqualTo(similar.getId());
+        assertThat(recommended).doesNotContain(applied.getId());
+
+        // Applied through another node: no event reaches this node's cached profile.
+        jdbcTemplate.update("insert into job_applications (job_id, candidate_id, status, created_at, updated_at) "
+            + "values (?, ?, 'SUBMITTED', current_timestamp, current_timestamp)", similar.getId(), candidate.id());
+        assertThat(recommendedIds(candidate)).doesNotContain(similar.getId());
+    }
+
+    @Test
+    void onlyCandidatesGetRecommendations() throws Exception {
+        UserPrincipal poster = UserPrincipal.of(userRepository.findByEmail("sarah.williams@techcorp.com").orElseThrow());
+
+        mockMvc.perform(get("/jobs/recommended").with(user(poster)))
+            .andExpect(status().isForbidden());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> recommendedIds(UserPrincipal candidate) throws Exception {
+        List<JobResponse> jobs = (List<JobResponse>) mockMvc.perform(get("/jobs/recommended").with(user(candidate)))
+            .andExpect(status().isOk())
+            .andReturn().getModelAndView().getModel().get("jobs");
+        return jobs.stream().map(JobResponse::getId).toList();
+    }
+
+    private static JobRequest jobRequest(String title, String description, Long companyId) {
+        JobRequest request = new JobRequest();
+        request.setTitle(title);
+        request.setDescription(description);
+        request.setLocation("Remote");
+        request.setEmploymentType("FULL_TIME");
+        request.setCompanyId(companyId);
+        return request;
+    }
+}
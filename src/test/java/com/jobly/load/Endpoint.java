@@ -0,0 +1,33 @@
+package com.jobly.load;
+
+/**
+ * Endpoints the load journeys hit. The id keys the latency budget.
+ */
+enum Endpoint {
+
+    JOB_LIST("jobs.list", "GET /jobs"),
+    JOB_DETAIL("jobs.detail", "GET /jobs/{id}"),
+    LOGIN_FORM("login.form", "GET /auth/login"),
+    LOGIN("login", "POST /auth/login"),
+    LOGOUT("logout", "POST /auth/logout"),
+    APPLY_FORM("apply.form", "GET /jobs/{id}/apply"),
+    APPLY("apply", "POST /jobs/{id}/apply"),
+    TRIAGE_LIST("triage.list", "GET /jobs/{id}/applications"),
+    TRIAGE_UPDATE("triage.update", "POST /jobs/{id}/applications/status");
+
+    private final String id;
+    private final String label;
+
+    Endpoint(String id, String label) {
+        this.id = id;
+        this.label = label;
+    }
+
+    String id() {
+        return id;
+    }
+
+    String label() {
+        return label;
+    }
+}
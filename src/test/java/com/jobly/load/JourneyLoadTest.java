@@ -0,0 +1,231 @@
+package com.jobly.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.jobly.JoblyApplication;
+import com.jobly.config.BulkDataSeeder;
+import com.jobly.load.LatencyRecorder.EndpointStats;
+
+/**
+ * Boots the application on an embedded database seeded by {@link BulkDataSeeder} and runs scripted
+ * user journeys against the real HTTP endpoints, one virtual thread per simulated user:
+ * anonymous browsing (70%), candidates who log in and apply (25%) and recruiters triaging
+ * applicants (5%). Prints throughput and p50/p99/p99.9 per endpoint, writes
+ * {@code target/load-report.txt}, and fails when {@code load/latency-budget.properties} is exceeded.
+ *
+ * Run with {@code mvn -Pload-tests test -Dtest=JourneyLoadTest}; tune with
+ * {@code -Djobly.load.clients}, {@code -Djobly.load.seconds}, {@code -Djobly.load.warmup-seconds}
+ * and {@code -Djobly.load.think-ms}.
+ */
+@Tag("load")
+class JourneyLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("jobly.load.clients", 2000);
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("jobly.load.warmup-seconds", 10));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Integer.getInteger("jobly.load.seconds", 30));
+    private static final int THINK_MILLIS = Integer.getInteger("jobly.load.think-ms", 200);
+
+    private static final Pattern APPLICATION_ID = Pattern.compile("name=\"applicationIds\"[^>]*value=\"(\\d+)\"");
+    private static final Path REPORT = Path.of("target", "load-report.txt");
+
+    @Test
+    void journeysStayWithinTheLatencyBudget() throws Exception {
+        LatencyBudget budget = LatencyBudget.load("load/latency-budget.properties");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(JoblyApplication.class)
+            .profiles("test")
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:jobly-load-journeys;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--server.tomcat.threads.max=400",
+                "--jobly.seed.bulk.enabled=true",
+                "--jobly.seed.bulk.users=" + Integer.getInteger("jobly.load.users", 20_000),
+                "--jobly.seed.bulk.jobs=" + Integer.getInteger("jobly.load.jobs", 2_000),
+                "--jobly.seed.bulk.applications=" + Integer.getInteger("jobly.load.applications", 40_000),
+                "--logging.level.root=WARN");
+        List<EndpointStats> report;
+        try {
+            report = run(context);
+        } finally {
+            context.close();
+        }
+
+        String table = format(report);
+        System.out.println(table);
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, table);
+
+        assertThat(budget.violations(report)).as("latency budget violations").isEmpty();
+    }
+
+    private static List<EndpointStats> run(ConfigurableApplicationContext context) throws InterruptedException {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        List<Long> openJobs = jdbc.queryForList("select id from jobs where status = 'OPEN'", Long.class);
+        List<String> candidates = jdbc.queryForList("select u.email from users u join user_roles ur on ur.user_id = u.id "
+            + "join roles r on r.id = ur.role_id where r.name = 'ROLE_CANDIDATE' and u.enabled = true "
+            + "and u.email like '%" + BulkDataSeeder.EMAIL_DOMAIN + "'", String.class);
+        List<Recruiter> recruiters = jdbc.query("select distinct u.email, j.id from jobs j "
+                + "join users u on u.id = j.posted_by_user_id join job_applications a on a.job_id = j.id "
+                + "where u.enabled = true and u.email like '%" + BulkDataSeeder.EMAIL_DOMAIN + "'",
+            (rs, row) -> new Recruiter(rs.getString(1), rs.getLong(2)));
+        assertThat(openJobs).as("open jobs").isNotEmpty();
+        assertThat(candidates).as("seeded candidates").isNotEmpty();
+        assertThat(recruiters).as("seeded recruiters with applicants").isNotEmpty();
+
+        String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        LatencyRecorder recorder = new LatencyRecorder();
+        Journeys journeys = new Journeys(openJobs, candidates, recruiters);
+        long measureAt = System.nanoTime() + WARMUP.toNanos();
+        long deadline = measureAt + MEASUREMENT.toNanos();
+
+        try (HttpClient http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+             ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                int user = i;
+                users.submit(() -> {
+                    // Stagger arrivals over the warm-up so the first second is not one thundering herd.
+                    pause(WARMUP.toMillis() * user / CLIENTS);
+                    LoadClient client = new LoadClient(http, baseUrl, recorder);
+                    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                        journeys.next(client, user);
+                    }
+                });
+            }
+            pause((measureAt - System.nanoTime()) / 1_000_000);
+            recorder.start();
+            pause((deadline - System.nanoTime()) / 1_000_000);
+            recorder.stop();
+        }
+        return recorder.report();
+    }
+
+    private static String format(List<EndpointStats> report) {
+        StringBuilder table = new StringBuilder(String.format("%n%-38s %9s %7s %9s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (EndpointStats stats : report) {
+            table.append(String.format("%-38s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", stats.endpoint().label(),
+                stats.count(), stats.errors(), stats.throughput(), stats.p50(), stats.p99(), stats.p999(), stats.max()));
+        }
+        return table.toString();
+    }
+
+    private static void pause(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Recruiter(String email, long jobId) {
+    }
+
+    private record Journeys(List<Long> openJobs, List<String> candidates, List<Recruiter> recruiters) {
+
+        void next(LoadClient client, int user) {
+            // Every block of 20 users holds 14 browsers, 5 candidates and 1 recruiter.
+            int slot = user % 20;
+            if (slot < 14) {
+                browse(client);
+            } else if (slot < 19) {
+                apply(client, candidates.get(user % candidates.size()));
+            } else {
+                triage(client, recruiters.get(user % recruiters.size()));
+            }
+        }
+
+        private void browse(LoadClient client) {
+            client.get(Endpoint.JOB_LIST, "/jobs");
+            think();
+            client.get(Endpoint.JOB_DETAIL, "/jobs/" + randomJob());
+            think();
+        }
+
+        private void apply(LoadClient client, String email) {
+            if (!client.login(email, BulkDataSeeder.PASSWORD)) {
+                think();
+                return;
+            }
+            String csrf = null;
+            for (int i = 0; i < 3; i++) {
+                long jobId = randomJob();
+                client.get(Endpoint.JOB_LIST, "/jobs");
+                think();
+                client.get(Endpoint.JOB_DETAIL, "/jobs/" + jobId);
+                think();
+                String form = client.get(Endpoint.APPLY_FORM, "/jobs/" + jobId + "/apply");
+                csrf = form != null ? LoadClient.csrfToken(form) : csrf;
+                think();
+                if (csrf != null) {
+                    client.post(Endpoint.APPLY, "/jobs/" + jobId + "/apply",
+                        "_csrf", csrf, "coverLetter", "Applied by the load harness.");
+                    think();
+                }
+            }
+            if (csrf != null) {
+                client.logout(csrf);
+            }
+        }
+
+        private void triage(LoadClient client, Recruiter recruiter) {
+            if (!client.login(recruiter.email(), BulkDataSeeder.PASSWORD)) {
+                think();
+                return;
+            }
+            String page = client.get(Endpoint.TRIAGE_LIST, "/jobs/" + recruiter.jobId() + "/applications");
+            String csrf = page != null ? LoadClient.csrfToken(page) : null;
+            think();
+            if (csrf == null) {
+                return;
+            }
+            // Bulk moves only shortlist or reject.
+            String status = ThreadLocalRandom.current().nextBoolean() ? "SHORTLISTED" : "REJECTED";
+            List<String> form = new ArrayList<>(List.of("_csrf", csrf, "status", status));
+            Matcher ids = APPLICATION_ID.matcher(page);
+            for (int i = 0; i < 5 && ids.find(); i++) {
+                form.add("applicationIds");
+                form.add(ids.group(1));
+            }
+            client.post(Endpoint.TRIAGE_UPDATE, "/jobs/" + recruiter.jobId() + "/applications/status",
+                form.toArray(String[]::new));
+            think();
+            client.logout(csrf);
+        }
+
+        private long randomJob() {
+            return openJobs.get(ThreadLocalRandom.current().nextInt(openJobs.size()));
+        }
+
+        private static void think() {
+            if (THINK_MILLIS > 0) {
+                pause(ThreadLocalRandom.current().nextInt(THINK_MILLIS / 2, THINK_MILLIS * 3 / 2 + 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.jobly.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import com.jobly.load.LatencyRecorder.EndpointStats;
+
+/**
+ * The checked-in latency budget: {@code <endpoint id>.p50|p99|p999} in milliseconds plus a global
+ * {@code max-error-rate}. Endpoints without entries are reported but not checked; an endpoint with
+ * a budget but no samples is a violation, since it means its journey stopped working.
+ */
+final class LatencyBudget {
+
+    private final Properties limits;
+
+    private LatencyBudget(Properties limits) {
+        this.limits = limits;
+    }
+
+    static LatencyBudget load(String resource) {
+        Properties limits = new Properties();
+        try (InputStream in = LatencyBudget.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Latency budget " + resource + " not found on the test classpath");
+            }
+            limits.load(in);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return new LatencyBudget(limits);
+    }
+
+    List<String> violations(List<EndpointStats> report) {
+        List<String> violations = new ArrayList<>();
+        double maxErrorRate = Double.parseDouble(limits.getProperty("max-error-rate", "0.01"));
+        for (EndpointStats stats : report) {
+            String id = stats.endpoint().id();
+            boolean budgeted = limits.stringPropertyNames().stream().anyMatch(key -> key.startsWith(id + ".p"));
+            if (budgeted && stats.count() == 0) {
+                violations.add(stats.endpoint().label() + ": no successful requests");
+                continue;
+            }
+            check(violations, stats, "p50", stats.p50());
+            check(violations, stats, "p99", stats.p99());
+            check(violations, stats, "p999", stats.p999());
+            if (stats.errorRate() > maxErrorRate) {
+                violations.add(String.format("%s: error rate %.2f%% over budget %.2f%%", stats.endpoint().label(),
+                    stats.errorRate() * 100, maxErrorRate * 100));
+            }
+        }
+        return violations;
+    }
+
+    private void check(List<String> violations, EndpointStats stats, String percentile, double actualMillis) {
+        String limit = limits.getProperty(stats.endpoint().id() + "." + percentile);
+        if (limit != null && actualMillis > Double.parseDouble(limit)) {
+            violations.add(String.format("%s: %s %.1f ms over budget %s ms", stats.endpoint().label(), percentile,
+                actualMillis, limit));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.jobly.load;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-endpoint latency histograms (microsecond resolution, three significant digits) and error
+ * counts. Samples are only kept between {@link #start()} and {@link #stop()}, so warm-up traffic
+ * does not skew the percentiles.
+ */
+final class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private volatile boolean measuring;
+    private long startedAt;
+    private long stoppedAt;
+
+    LatencyRecorder() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    void start() {
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+        startedAt = System.nanoTime();
+        measuring = true;
+    }
+
+    void stop() {
+        measuring = false;
+        stoppedAt = System.nanoTime();
+    }
+
+    void record(Endpoint endpoint, long nanos) {
+        if (measuring) {
+            histograms.get(endpoint).recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        }
+    }
+
+    void error(Endpoint endpoint) {
+        if (measuring) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    List<EndpointStats> report() {
+        double seconds = Math.max(1e-9, (stoppedAt - startedAt) / 1e9);
+        List<EndpointStats> stats = new ArrayList<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = histograms.get(endpoint);
+            long count = histogram.getTotalCount();
+            stats.add(new EndpointStats(endpoint, count, errors.get(endpoint).sum(), count / seconds,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue())));
+        }
+        return stats;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    record EndpointStats(Endpoint endpoint, long count, long errors, double throughput,
+                         double p50, double p99, double p999, double max) {
+
+        double errorRate() {
+            long total = count + errors;
+            return total == 0 ? 0 : (double) errors / total;
+        }
+    }
+}
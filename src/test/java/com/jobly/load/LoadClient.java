@@ -0,0 +1,135 @@
+package com.jobly.load;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * One simulated browser: its own cookie jar on top of a shared {@link HttpClient}, so thousands of
+ * users do not each need a client and selector thread. Not thread-safe; each virtual user owns one.
+ */
+final class LoadClient {
+
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+
+    LoadClient(HttpClient http, String baseUrl, LatencyRecorder recorder) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+    }
+
+    /**
+     * Returns the page body, or {@code null} (recorded as an error) when the status is not 200.
+     */
+    String get(Endpoint endpoint, String path) {
+        Response response = send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET(), 200);
+        return response != null ? response.body() : null;
+    }
+
+    /**
+     * Posts a form and returns the redirect target, or {@code null} (recorded as an error) when the
+     * response is not a redirect.
+     */
+    String post(Endpoint endpoint, String path, String... pairs) {
+        Response response = send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .POST(HttpRequest.BodyPublishers.ofString(form(pairs))), 302);
+        return response != null ? response.location() : null;
+    }
+
+    boolean login(String email, String password) {
+        cookies.clear();
+        String page = get(Endpoint.LOGIN_FORM, "/auth/login");
+        String csrf = page != null ? csrfToken(page) : null;
+        if (csrf == null) {
+            return false;
+        }
+        String location = post(Endpoint.LOGIN, "/auth/login", "_csrf", csrf, "username", email, "password", password);
+        if (location == null || location.contains("error")) {
+            recorder.error(Endpoint.LOGIN);
+            return false;
+        }
+        return true;
+    }
+
+    void logout(String csrf) {
+        post(Endpoint.LOGOUT, "/auth/logout", "_csrf", csrf);
+        cookies.clear();
+    }
+
+    private Response send(Endpoint endpoint, HttpRequest.Builder request, int expectedStatus) {
+        if (!cookies.isEmpty()) {
+            request.header("Cookie", cookies.entrySet().stream()
+                .map(cookie -> cookie.getKey() + "=" + cookie.getValue())
+                .collect(Collectors.joining("; ")));
+        }
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request.timeout(TIMEOUT).build(),
+                HttpResponse.BodyHandlers.ofString());
+            long elapsed = System.nanoTime() - start;
+            response.headers().allValues("Set-Cookie").forEach(this::storeCookie);
+            if (response.statusCode() != expectedStatus) {
+                recorder.error(endpoint);
+                return null;
+            }
+            recorder.record(endpoint, elapsed);
+            return new Response(response.body(), response.headers().firstValue("Location").orElse(""));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception ex) {
+            recorder.error(endpoint);
+            return null;
+        }
+    }
+
+    private void storeCookie(String header) {
+        String pair = header.split(";", 2)[0];
+        int equals = pair.indexOf('=');
+        if (equals > 0) {
+            String value = pair.substring(equals + 1);
+            if (value.isEmpty()) {
+                cookies.remove(pair.substring(0, equals));
+            } else {
+                cookies.put(pair.substring(0, equals), value);
+            }
+        }
+    }
+
+    static String csrfToken(String html) {
+        Matcher matcher = CSRF_TOKEN.matcher(html);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    static String form(String... pairs) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < pairs.length; i += 2) {
+            if (body.length() > 0) {
+                body.append('&');
+            }
+            body.append(URLEncoder.encode(pairs[i], StandardCharsets.UTF_8))
+                .append('=')
+                .append(URLEncoder.encode(pairs[i + 1], StandardCharsets.UTF_8));
+        }
+        return body.toString();
+    }
+
+    private record Response(String body, String location) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.jobly.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.jobly.JoblyApplication;
+import com.jobly.service.JobService;
+
+/**
+ * Compares platform-thread and virtual-thread request handling under the same load: throughput and
+ * p99 latency of {@code GET /jobs} and {@code POST /jobs/{id}/apply} at a fixed number of
+ * concurrent connections. Every apply is the same candidate and job, so after the first insert it
+ * measures the duplicate check (filter hit, existence query, redirect back to the job). Run with
+ * {@code mvn -Pload-tests test}; tune with {@code -Djobly.load.concurrency} and {@code -Djobly.load.seconds}.
+ */
+@Tag("load")
+class ThreadingModeLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("jobly.load.concurrency", 2000);
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("jobly.load.warmup-seconds", 5));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Integer.getInteger("jobly.load.seconds", 15));
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        List<Result> results = new ArrayList<>();
+        results.addAll(runMode(false));
+        results.addAll(runMode(true));
+
+        System.out.printf("%n%-9s %-22s %10s %12s %10s %8s%n", "threads", "endpoint", "requests", "req/s", "p99 ms", "errors");
+        for (Result result : results) {
+            System.out.printf("%-9s %-22s %10d %12.1f %10.1f %8d%n", result.mode(), result.endpoint(), result.requests(),
+                result.throughput(), result.p99Millis(), result.errors());
+        }
+        assertThat(results).allSatisfy(result ->
+            assertThat(result.errors()).isLessThanOrEqualTo((long) (result.requests() * MAX_ERROR_RATE)));
+    }
+
+    private List<Result> runMode(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(JoblyApplication.class)
+            .profiles(virtualThreads ? new String[] {"test", "virtual"} : new String[] {"test"})
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:jobly-load-" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--logging.level.root=WARN");
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String base = "http://localhost:" + port;
+            Long jobId = context.getBean(JobService.class).listOpenJobs().get(0).getId();
+
+            HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+            String csrf = login(client, base, jobId);
+
+            HttpRequest list = HttpRequest.newBuilder(URI.create(base + "/jobs")).GET().build();
+            HttpRequest apply = HttpRequest.newBuilder(URI.create(base + "/jobs/" + jobId + "/apply"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(LoadClient.form("_csrf", csrf, "coverLetter", "Load test application")))
+                .build();
+
+            drive(client, list, WARMUP);
+            Result listResult = measure(mode, "GET /jobs", client, list, 200);
+            drive(client, apply, WARMUP);
+            Result applyResult = measure(mode, "POST /jobs/{id}/apply", client, apply, 302);
+            return List.of(listResult, applyResult);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static String login(HttpClient client, String base, Long jobId) throws Exception {
+        String loginPage = client.send(HttpRequest.newBuilder(URI.create(base + "/auth/login")).build(),
+            HttpResponse.BodyHandlers.ofString()).body();
+        HttpResponse<String> login = client.send(HttpRequest.newBuilder(URI.create(base + "/auth/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(LoadClient.form(
+                    "_csrf", LoadClient.csrfToken(loginPage), "username", "john.doe@example.com", "password", "Password@123")))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+        assertThat(login.headers().firstValue("Location")).hasValueSatisfying(location ->
+            assertThat(location).doesNotContain("error"));
+        String applyPage = client.send(HttpRequest.newBuilder(URI.create(base + "/jobs/" + jobId + "/apply")).build(),
+            HttpResponse.BodyHandlers.ofString()).body();
+        String csrf = LoadClient.csrfToken(applyPage);
+        assertThat(csrf).as("CSRF token in page").isNotNull();
+        return csrf;
+    }
+
+    private static void drive(HttpClient client, HttpRequest request, Duration duration) throws Exception {
+        run(client, request, duration, 0, new long[CONCURRENCY][], new AtomicLong());
+    }
+
+    private static Result measure(String mode, String endpoint, HttpClient client, HttpRequest request,
+                                  int expectedStatus) throws Exception {
+        long[][] latencies = new long[CONCURRENCY][];
+        AtomicLong errors = new AtomicLong();
+        long started = System.nanoTime();
+        run(client, request, MEASUREMENT, expectedStatus, latencies, errors);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        double p99 = all.length == 0 ? 0 : all[Math.min(all.length - 1, (int) Math.ceil(all.length * 0.99) - 1)] / 1e6;
+        return new Result(mode, endpoint, all.length + errors.get(), all.length / elapsedSeconds, p99, errors.get());
+    }
+
+    /**
+     * Runs {@link #CONCURRENCY} closed-loop clients, each on its own virtual thread, until the
+     * duration elapses. With {@code expectedStatus} 0 nothing is recorded.
+     */
+    private static void run(HttpClient client, HttpRequest request, Duration duration, int expectedStatus,
+                            long[][] latencies, AtomicLong errors) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> running = new ArrayList<>(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++) {
+                int slot = i;
+                running.add(clients.submit(() -> {
+                    long[] samples = new long[256];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (expectedStatus == 0) {
+                                continue;
+                            }
+                            if (status != expectedStatus) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception ex) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = System.nanoTime() - start;
+                    }
+                    latencies[slot] = Arrays.copyOf(samples, count);
+                }));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+        }
+    }
+
+    private record Result(String mode, String endpoint, long requests, double throughput, double p99Millis, long errors) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.jobly.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jobly.service.JobService;
+
+@SpringBootTest(properties = "jobly.metrics.scrape.password=scrape-secret")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class PrometheusScrapeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobService jobService;
+
+    @Test
+    void exposesServiceTimersHibernateStatisticsAndPoolMetrics() throws Exception {
+        jobService.listOpenJobs();
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "scrape-secret")))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+            .contains("jobly_service_seconds_count{")
+            .contains("method=\"listOpenJobs\"")
+            .contains("jobly_service_seconds_bucket{")
+            .contains("hibernate_query_executions_total")
+            .contains("hibernate_entities_loads_total")
+            .contains("hikaricp_connections_active");
+    }
+
+    @Test
+    void requiresTheScrapeUser() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "wrong")))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("john.doe@example.com", "Password@123")))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void keepsOtherActuatorEndpointsPrivate() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+            .andExpect(status().is3xxRedirection());
+    }
+}
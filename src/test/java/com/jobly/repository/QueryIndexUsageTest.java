@@ -0,0 +1,214 @@
+package com.jobly.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobly.model.Role.RoleName;
+import com.jobly.model.enums.ApplicationStatus;
+import com.jobly.model.enums.JobStatus;
+
+/**
+ * Runs every query method declared on a repository, captures the SQL Hibernate sends, and checks
+ * the H2 plan of each statement for table scans. A new repository method fails this test until it
+ * is added here, and a new query path fails it until a migration gives it an index.
+ */
+@SpringBootTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:jobly-explain;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class QueryIndexUsageTest {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\* public\\.(\\w+)\\.tableScan");
+
+    // Recounts that rewrite every row of a table, or count on a flag too unselective to index, scan it
+    // by design; their other lookups must still be indexed.
+    private static final Map<String, Set<String>> SCANS_BY_DESIGN = Map.of(
+        "CompanyRepository.recountOpenJobs", Set.of("companies"),
+        "StatCounterRepository.recountDisabledUsers", Set.of("users"));
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private StatCounterRepository statCounterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void everyRepositoryQueryUsesAnIndex() {
+        Map<String, Runnable> queries = queries();
+        assertThat(queries.keySet()).as("repository query methods covered by this test")
+            .containsExactlyInAnyOrderElementsOf(declaredQueryMethods());
+
+        List<String> violations = new ArrayList<>();
+        queries.forEach((method, query) -> {
+            for (String sql : capture(query)) {
+                String plan = explain(sql);
+                Matcher scan = TABLE_SCAN.matcher(plan);
+                while (scan.find()) {
+                    if (!SCANS_BY_DESIGN.getOrDefault(method, Set.of()).contains(scan.group(1))) {
+                        violations.add(method + " scans " + scan.group(1) + ":\n" + plan);
+                    }
+                }
+            }
+        });
+        assertThat(violations).isEmpty();
+    }
+
+    private Map<String, Runnable> queries() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("CompanyRepository.adjustOpenJobCount", () -> companyRepository.adjustOpenJobCount(1L, 1));
+        queries.put("CompanyRepository.recountOpenJobs", () -> companyRepository.recountOpenJobs(JobStatus.OPEN));
+        queries.put("JobApplicationRepository.findByCandidateId", () -> jobApplicationRepository.findByCandidateId(1L));
+        queries.put("JobApplicationRepository.findByJobId", () -> jobApplicationRepository.findByJobId(1L));
+        queries.put("JobApplicationRepository.existsByJobIdAndCandidateId", () ->
+            jobApplicationRepository.existsByJobIdAndCandidateId(1L, 1L));
+        queries.put("JobApplicationRepository.findAppliedJobIds", () ->
+            jobApplicationRepository.findAppliedJobIds(1L, List.of(1L, 2L)));
+        queries.put("JobApplicationRepository.findHistoryByCandidateId", () ->
+            jobApplicationRepository.findHistoryByCandidateId(1L, PageRequest.ofSize(200)));
+        queries.put("JobApplicationRepository.streamExportRowsByJobId", () ->
+            drain(jobApplicationRepository.streamExportRowsByJobId(1L)));
+        queries.put("JobApplicationRepository.updateStatusForJob", () ->
+            jobApplicationRepository.updateStatusForJob(1L, List.of(1L, 2L), ApplicationStatus.SHORTLISTED, now, "system"));
+        queries.put("JobRepository.findByStatus", () -> jobRepository.findByStatus(JobStatus.OPEN));
+        queries.put("JobRepository.findByPostedById", () -> jobRepository.findByPostedById(1L));
+        queries.put("JobRepository.findByIdIn", () -> jobRepository.findByIdIn(List.of(1L, 2L)));
+        queries.put("JobRepository.findPostedByIdById", () -> jobRepository.findPostedByIdById(1L));
+        queries.put("JobRepository.findLastModifiedById", () -> jobRepository.findLastModifiedById(1L));
+        queries.put("JobRepository.findBoardStamp", () -> jobRepository.findBoardStamp(JobStatus.OPEN));
+        queries.put("JobRepository.findWithCompanyAndPosterById", () -> jobRepository.findWithCompanyAndPosterById(1L));
+        queries.put("JobRepository.findFirstPageByStatus", () ->
+            jobRepository.findFirstPageByStatus(JobStatus.OPEN, PageRequest.ofSize(20)));
+        queries.put("JobRepository.findPageByStatusAfter", () ->
+            jobRepository.findPageByStatusAfter(JobStatus.OPEN, now, 100L, PageRequest.ofSize(20)));
+        queries.put("JobRepository.streamByStatus", () ->
+            drain(jobRepository.streamByStatus(JobStatus.OPEN, PageRequest.ofSize(20))));
+        queries.put("JobRepository.streamByStatusAfter", () ->
+            drain(jobRepository.streamByStatusAfter(JobStatus.OPEN, now, 100L, PageRequest.ofSize(20))));
+        queries.put("RevokedTokenRepository.findByExpiresAtAfter", () -> revokedTokenRepository.findByExpiresAtAfter(Instant.now()));
+        queries.put("RevokedTokenRepository.deleteExpired", () -> revokedTokenRepository.deleteExpired(Instant.now()));
+        queries.put("RoleRepository.findByName", () -> roleRepository.findByName(RoleName.ROLE_CANDIDATE));
+        queries.put("StatCounterRepository.increment", () -> statCounterRepository.increment("jobs.open", 1));
+        queries.put("StatCounterRepository.recountEnabledUsers", () ->
+            statCounterRepository.recountEnabledUsers("users.enabled.ROLE_CANDIDATE", RoleName.ROLE_CANDIDATE));
+        queries.put("StatCounterRepository.recountDisabledUsers", () -> statCounterRepository.recountDisabledUsers("users.disabled"));
+        queries.put("StatCounterRepository.recountJobs", () -> statCounterRepository.recountJobs("jobs.open", JobStatus.OPEN));
+        queries.put("UserRepository.findByEmail", () -> userRepository.findByEmail("john.doe@example.com"));
+        queries.put("UserRepository.existsByEmail", () -> userRepository.existsByEmail("john.doe@example.com"));
+        queries.put("UserRepository.countByRolesName", () -> userRepository.countByRolesName(RoleName.ROLE_CANDIDATE));
+        queries.put("UserRepository.findAllByOrderByCreatedAtDesc", () ->
+            userRepository.findAllByOrderByCreatedAtDesc(PageRequest.ofSize(10)));
+        return queries;
+    }
+
+    private static void drain(Stream<?> results) {
+        try (results) {
+            results.forEach(result -> { });
+        }
+    }
+
+    private Set<String> declaredQueryMethods() {
+        Set<String> methods = new TreeSet<>();
+        Repositories repositories = new Repositories(applicationContext);
+        for (Class<?> domainType : repositories) {
+            Class<?> repository = repositories.getRequiredRepositoryInformation(domainType).getRepositoryInterface();
+            for (Method method : repository.getDeclaredMethods()) {
+                if (!method.isDefault() && !method.isSynthetic()) {
+                    methods.add(repository.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+        return methods;
+    }
+
+    // Runs the query in a transaction that is rolled back, so modifying queries leave no trace.
+    private List<String> capture(Runnable query) {
+        STATEMENTS.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            query.run();
+            status.setRollbackOnly();
+        });
+        return List.copyOf(STATEMENTS);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute("explain " + sql, (PreparedStatement statement) -> {
+            ParameterMetaData parameters = statement.getParameterMetaData();
+            for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                statement.setNull(i, Types.NULL);
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        });
+    }
+
+    @TestConfiguration
+    static class StatementCapture {
+
+        @Bean
+        HibernatePropertiesCustomizer captureStatements() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                STATEMENTS.add(sql);
+                return sql;
+            });
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.jobly.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.jobly.dto.job.FacetCount;
+import com.jobly.dto.job.JobCursor;
+import com.jobly.dto.job.JobFacets;
+import com.jobly.dto.job.JobFilter;
+import com.jobly.model.Job;
+import com.jobly.model.enums.EmploymentType;
+import com.jobly.model.enums.JobStatus;
+import com.jobly.repository.JobRepository;
+
+class JobFacetIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private JobFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobFacetIndex(null);
+        index.index(1L, START, EmploymentType.FULL_TIME, "San Francisco, CA", 120000, 180000);
+        index.index(2L, START.plusDays(1), EmploymentType.FULL_TIME, "Remote", 100000, 150000);
+        index.index(3L, START.plusDays(2), EmploymentType.INTERN, "san francisco,  CA", 25, 35);
+        index.index(4L, START.plusDays(3), EmploymentType.CONTRACT, "Remote", null, null);
+    }
+
+    @Test
+    void countsEachFacetAgainstTheOtherSelections() {
+        JobFilter filter = new JobFilter();
+        filter.setLocation("Remote");
+
+        JobFacets facets = index.facets(filter, 10);
+
+        assertThat(facets.getEmploymentTypes())
+            .extracting(FacetCount::getValue, FacetCount::getCount)
+            .containsExactly(
+                tuple("FULL_TIME", 1),
+                tuple("CONTRACT", 1));
+        assertThat(facets.getLocations())
+            .extracting(FacetCount::getValue, FacetCount::getCount, FacetCount::isSelected)
+            .containsExactly(
+                tuple("remote", 2, true),
+                tuple("san francisco, ca", 2, false));
+        assertThat(facets.getSalaryBands())
+            .extracting(FacetCount::getValue)
+            .containsExactly("FROM_100K_TO_150K", "NOT_DISCLOSED");
+    }
+
+    @Test
+    void pagesFilteredJobsNewestFirstFromACursor() {
+        JobFilter filter = new JobFilter();
+        filter.setLocation("San Francisco, CA");
+
+        assertThat(index.page(filter, null, 10)).containsExactly(3L, 1L);
+        assertThat(index.page(filter, new JobCursor(START.plusDays(2), 3L), 10)).containsExactly(1L);
+        assertThat(index.page(new JobFilter(), null, 2)).containsExactly(4L, 3L);
+    }
+
+    @Test
+    void removedAndReindexedJobsMoveBetweenFacets() {
+        index.remove(4L);
+        index.index(2L, START.plusDays(1), EmploymentType.CONTRACT, "Remote", 100000, 150000);
+
+        JobFilter contracts = new JobFilter();
+        contracts.setEmploymentType("CONTRACT");
+
+        assertThat(index.page(contracts, null, 10)).containsExactly(2L);
+        assertThat(index.matches(2L, contracts)).isTrue();
+        assertThat(index.matches(1L, contracts)).isFalse();
+    }
+
+    @Test
+    void ignoresFacetValuesThatNameNoConstant() {
+        JobFilter filter = new JobFilter();
+        filter.setEmploymentType("full-time");
+        filter.setSalaryBand("LOTS");
+
+        assertThat(index.page(filter, null, 10)).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(index.facets(filter, 10).getEmploymentTypes()).extracting(FacetCount::getCount).containsExactly(2, 1, 1);
+    }
+
+    @Test
+    void rebuildSwapsInAFreshIndexAndKeepsChangesMadeMeanwhile() {
+        JobRepository jobRepository = mock(JobRepository.class);
+        JobFacetIndex rebuilding = new JobFacetIndex(jobRepository);
+        rebuilding.index(1L, START, EmploymentType.FULL_TIME, "Berlin", null, null);
+        rebuilding.index(2L, START.plusDays(1), EmploymentType.CONTRACT, "Remote", null, null);
+        when(jobRepository.findFirstPageByStatus(eq(JobStatus.OPEN), any())).thenAnswer(invocation -> {
+            // Mid-build the old index still answers, and a job closed now must stay out of the new one.
+            assertThat(rebuilding.page(new JobFilter(), null, 10)).containsExactly(2L, 1L);
+            rebuilding.remove(2L);
+            rebuilding.index(3L, START.plusDays(2), EmploymentType.FULL_TIME, "Remote", null, null);
+            return List.of(job(1L, START, "Berlin"), job(2L, START.plusDays(1), "Remote"));
+        });
+        when(jobRepository.findPageByStatusAfter(any(), any(), any(), any())).thenReturn(List.of());
+
+        rebuilding.rebuild();
+
+        JobFilter remote = new JobFilter();
+        remote.setLocation("Remote");
+        assertThat(rebuilding.page(new JobFilter(), null, 10)).containsExactly(3L, 1L);
+        assertThat(rebuilding.page(remote, null, 10)).containsExactly(3L);
+    }
+
+    private static Job job(Long id, LocalDateTime createdAt, String location) {
+        Job job = new Job();
+        job.setId(id);
+        job.setCreatedAt(createdAt);
+        job.setEmploymentType(EmploymentType.FULL_TIME);
+        job.setLocation(location);
+        return job;
+    }
+}
@@ -0,0 +1,117 @@
+package com.jobly.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.jobly.dto.application.CandidateHistoryRow;
+import com.jobly.model.Job;
+import com.jobly.model.enums.EmploymentType;
+import com.jobly.model.enums.JobStatus;
+import com.jobly.repository.JobRepository;
+
+class JobRecommenderTest {
+
+    private JobRecommender recommender;
+
+    @BeforeEach
+    void setUp() {
+        recommender = new JobRecommender(null, null);
+        recommender.index(1L, "Senior Java Developer", "Build Spring Boot microservices.", "Berlin", EmploymentType.FULL_TIME);
+        recommender.index(2L, "Java Platform Engineer", "Spring and Kafka services at scale.", "Remote", EmploymentType.FULL_TIME);
+        recommender.index(3L, "UX Designer", "Craft intuitive mobile experiences in Figma.", "Austin, TX", EmploymentType.CONTRACT);
+        recommender.index(4L, "Product Designer", "Design systems and mobile prototypes.", "Remote", EmploymentType.CONTRACT);
+        recommender.index(5L, "Payroll Accountant", "Month-end close and payroll runs.", "Leeds", EmploymentType.PART_TIME);
+    }
+
+    @Test
+    void recommendsJobsLikeTheAppliedOnesAndSkipsThem() {
+        JobRecommender.Profile profile = recommender.profileOf(List.of(
+            history(1L, "I love building Spring services.", "Senior Java Developer", "Build Spring Boot microservices.")));
+
+        assertThat(recommender.recommend(profile, 10)).startsWith(2L).doesNotContain(1L, 5L);
+    }
+
+    @Test
+    void coverLettersShiftTheProfile() {
+        JobRecommender.Profile profile = recommender.profileOf(List.of(new CandidateHistoryRow(
+            99L, "Figma prototypes for mobile apps are my passion.", "Illustrator", "Draw things.", null, null)));
+
+        assertThat(recommender.recommend(profile, 2)).containsExactlyInAnyOrder(3L, 4L);
+    }
+
+    @Test
+    void reindexingAndRemovalTakeEffectImmediately() {
+        JobRecommender.Profile profile = recommender.profileOf(List.of(
+            history(1L, null, "Senior Java Developer", "Build Spring Boot microservices.")));
+
+        recommender.remove(2L);
+        recommender.index(5L, "Java Payroll Engineer", "Spring Boot payroll services.", "Leeds", EmploymentType.FULL_TIME);
+
+        assertThat(recommender.recommend(profile, 10)).startsWith(5L).doesNotContain(2L);
+        assertThat(recommender.size()).isEqualTo(4);
+    }
+
+    @Test
+    void removedJobsSurviveCompaction() {
+        for (long id = 100; id < 2100; id++) {
+            recommender.index(id, "Temporary Java role " + id, "Short Spring contract.", "Remote", EmploymentType.TEMPORARY);
+        }
+        for (long id = 100; id < 2100; id++) {
+            recommender.remove(id);
+        }
+        JobRecommender.Profile profile = recommender.profileOf(List.of(
+            history(1L, null, "Senior Java Developer", "Build Spring Boot microservices.")));
+
+        assertThat(recommender.size()).isEqualTo(5);
+        assertThat(recommender.recommend(profile, 1)).containsExactly(2L);
+    }
+
+    @Test
+    void rebuildSwapsInAFreshIndexAndKeepsChangesMadeMeanwhile() {
+        JobRepository jobRepository = mock(JobRepository.class);
+        JobRecommender rebuilding = new JobRecommender(jobRepository, null);
+        rebuilding.index(1L, "Senior Java Developer", "Build Spring Boot microservices.", "Berlin", EmploymentType.FULL_TIME);
+        rebuilding.index(2L, "Java Platform Engineer", "Spring and Kafka services at scale.", "Remote", EmploymentType.FULL_TIME);
+        JobRecommender.Profile profile = rebuilding.profileOf(List.of(
+            history(9L, null, "Java Developer", "Spring Boot services.")));
+        when(jobRepository.findFirstPageByStatus(eq(JobStatus.OPEN), any())).thenAnswer(invocation -> {
+            // Mid-build the old index still answers, and a job written now must survive the swap.
+            assertThat(rebuilding.recommend(profile, 10)).containsExactlyInAnyOrder(1L, 2L);
+            rebuilding.index(3L, "Java Kafka Engineer", "Spring services.", "Remote", EmploymentType.FULL_TIME);
+            return List.of(job(2L, "Java Platform Engineer", "Spring and Kafka services at scale."));
+        });
+        when(jobRepository.findPageByStatusAfter(any(), any(), any(), any())).thenReturn(List.of());
+
+        rebuilding.rebuild();
+
+        assertThat(rebuilding.recommend(profile, 10)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(rebuilding.size()).isEqualTo(2);
+    }
+
+    @Test
+    void emptyHistoryRecommendsNothing() {
+        assertThat(recommender.recommend(recommender.profileOf(List.of()), 10)).isEmpty();
+    }
+
+    private static Job job(Long id, String title, String description) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setDescription(description);
+        job.setLocation("Remote");
+        job.setEmploymentType(EmploymentType.FULL_TIME);
+        return job;
+    }
+
+    private static CandidateHistoryRow history(Long jobId, String coverLetter, String title, String description) {
+        return new CandidateHistoryRow(jobId, coverLetter, title, description, "Berlin", EmploymentType.FULL_TIME);
+    }
+}
@@ -0,0 +1,97 @@
+package com.jobly.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.jobly.model.Job;
+import com.jobly.model.enums.JobStatus;
+import com.jobly.repository.JobRepository;
+
+class JobSearchIndexTest {
+
+    private JobSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSearchIndex(null);
+        index.index(1L, "Senior Java Developer", "Build Spring Boot microservices.", "San Francisco, CA", "TechCorp");
+        index.index(2L, "DevOps Engineer", "Kubernetes and Java tooling for CI/CD.", "Remote", "TechCorp");
+        index.index(3L, "UX Designer", "Craft intuitive mobile experiences.", "Austin, TX", "Innovate Labs");
+    }
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        assertThat(index.search("java", 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void matchesCompanyAndLocationCaseInsensitively() {
+        assertThat(index.search("INNOVATE", 10)).containsExactly(3L);
+        assertThat(index.search("remote", 10)).containsExactly(2L);
+    }
+
+    @Test
+    void reindexingReplacesPreviousTerms() {
+        index.index(3L, "Product Designer", "Design systems.", "Austin, TX", "Innovate Labs");
+
+        assertThat(index.search("ux", 10)).isEmpty();
+        assertThat(index.search("product", 10)).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void removedJobsSurviveCompaction() {
+        for (long id = 100; id < 2100; id++) {
+            index.index(id, "Temporary Java role " + id, "Short contract.", "Remote", "Staffing Co");
+        }
+        for (long id = 100; id < 2100; id++) {
+            index.remove(id);
+        }
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("java", 10)).containsExactly(1L, 2L);
+        assertThat(index.search("temporary", 10)).isEmpty();
+    }
+
+    @Test
+    void rebuildSwapsInAFreshIndexAndKeepsChangesMadeMeanwhile() {
+        JobRepository jobRepository = mock(JobRepository.class);
+        JobSearchIndex rebuilding = new JobSearchIndex(jobRepository);
+        rebuilding.index(1L, "Senior Java Developer", "Build Spring Boot microservices.", "Berlin", "TechCorp");
+        rebuilding.index(2L, "Java Platform Engineer", "Spring and Kafka services.", "Remote", "TechCorp");
+        when(jobRepository.findFirstPageByStatus(eq(JobStatus.OPEN), any())).thenAnswer(invocation -> {
+            // Mid-build the old index still answers, and a job written now must survive the swap.
+            assertThat(rebuilding.search("java", 10)).containsExactlyInAnyOrder(1L, 2L);
+            rebuilding.index(3L, "Java Kafka Engineer", "Spring services.", "Remote", "Staffing Co");
+            return List.of(job(2L, "Java Platform Engineer", "Spring and Kafka services."));
+        });
+        when(jobRepository.findPageByStatusAfter(any(), any(), any(), any())).thenReturn(List.of());
+
+        rebuilding.rebuild();
+
+        assertThat(rebuilding.search("java", 10)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(rebuilding.size()).isEqualTo(2);
+    }
+
+    @Test
+    void tokenizerDropsStopWordsAndSingleLetters() {
+        assertThat(Tokenizer.tokenize("The C and Go developer, in Berlin!")).containsExactly("go", "developer", "berlin");
+    }
+
+    private static Job job(Long id, String title, String description) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setDescription(description);
+        job.setLocation("Remote");
+        return job;
+    }
+}
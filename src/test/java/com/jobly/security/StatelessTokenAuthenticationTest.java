@@ -0,0 +1,159 @@
+package com.jobly.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.security.web.context.HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import jakarta.servlet.http.Cookie;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.jobly.model.User;
+import com.jobly.repository.UserRepository;
+import com.jobly.service.JobService;
+import com.jobly.service.UserService;
+
+@SpringBootTest(properties = {
+    "jobly.auth.stateless.enabled=true",
+    "jobly.auth.token.keys=k1:" + StatelessTokenAuthenticationTest.KEY_1 + ",k2:" + StatelessTokenAuthenticationTest.KEY_2,
+    "jobly.auth.token.active-key=k1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StatelessTokenAuthenticationTest {
+
+    static final String KEY_1 = "am9ibHktdGVzdC1zaWduaW5nLWtleS0wMTIzNDU2Nzg5";
+    static final String KEY_2 = "am9ibHktdGVzdC1yb3RhdGVkLWtleS0wMTIzNDU2Nzg5";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @Autowired
+    private AuthTokenService authTokenService;
+
+    @Test
+    void loginIssuesATokenCookieThatAuthenticatesWithoutASession() throws Exception {
+        Cookie token = login("john.doe@example.com", "Password@123");
+
+        MvcResult result = mockMvc.perform(get(applyPage()).cookie(token))
+            .andExpect(status().isOk())
+            .andReturn();
+        // The test CSRF support keeps its token in a session; the security context must never land there.
+        assertThat(result.getRequest().getSession(false)).satisfiesAnyOf(
+            session -> assertThat(session).isNull(),
+            session -> assertThat(session.getAttribute(SPRING_SECURITY_CONTEXT_KEY)).isNull());
+
+        mockMvc.perform(get(applyPage()).cookie(new Cookie(TokenAuthenticationFilter.COOKIE_NAME, tampered(token.getValue()))))
+            .andExpect(status().is3xxRedirection());
+    }
+
+    @Test
+    void logoutAndDisablingTheUserRevokeIssuedTokens() throws Exception {
+        Cookie loggedOut = login("john.doe@example.com", "Password@123");
+        mockMvc.perform(post("/auth/logout").cookie(loggedOut).with(csrf()))
+            .andExpect(status().is3xxRedirection());
+        mockMvc.perform(get(applyPage()).cookie(loggedOut))
+            .andExpect(status().is3xxRedirection());
+
+        Cookie beforeDisable = login("david.brown@innovate.com", "Password@123");
+        User poster = userRepository.findByEmail("david.brown@innovate.com").orElseThrow();
+        try {
+            userService.toggleUserEnabled(poster.getId());
+            mockMvc.perform(get(applyPage()).cookie(beforeDisable))
+                .andExpect(status().is3xxRedirection());
+            revocationList.refresh();
+            mockMvc.perform(get(applyPage()).cookie(beforeDisable))
+                .andExpect(status().is3xxRedirection());
+        } finally {
+            userService.toggleUserEnabled(poster.getId());
+        }
+    }
+
+    @Test
+    void refreshTakesRolesFromTheDatabaseRatherThanTheOldToken() throws Exception {
+        User candidate = userRepository.findByEmail("john.doe@example.com").orElseThrow();
+        UserPrincipal claimed = new UserPrincipal(candidate.getId(), candidate.getEmail(), candidate.getFullName(),
+            UserPrincipal.of(candidate).roleMask() | 1 << 3, true);
+        Clock tenMinutesAgo = Clock.offset(Clock.systemUTC(), Duration.ofMinutes(-10));
+        String stale = new AuthTokenService("k1:" + KEY_1, "k1", Duration.ofMinutes(15), tenMinutesAgo)
+            .issue(claimed).value();
+
+        MvcResult result = mockMvc.perform(get("/admin/dashboard")
+                .cookie(new Cookie(TokenAuthenticationFilter.COOKIE_NAME, stale)))
+            .andExpect(status().isForbidden())
+            .andReturn();
+
+        Cookie refreshed = result.getResponse().getCookie(TokenAuthenticationFilter.COOKIE_NAME);
+        assertThat(refreshed).isNotNull();
+        assertThat(authTokenService.verify(refreshed.getValue()))
+            .hasValueSatisfying(token -> assertThat(token.principal()).isEqualTo(UserPrincipal.of(candidate)));
+    }
+
+    @Test
+    void tokensSignedWithARetiredActiveKeyStillVerifyUntilExpiry() {
+        Clock issuedAt = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+        String keys = "k1:" + KEY_1 + ",k2:" + KEY_2;
+        UserPrincipal principal = new UserPrincipal(7L, "jane@example.com", "Jane", 1, true);
+
+        AuthTokenService.AuthToken oldToken = new AuthTokenService(keys, "k1", Duration.ofMinutes(15), issuedAt).issue(principal);
+        AuthTokenService rotated = new AuthTokenService(keys, "k2", Duration.ofMinutes(15),
+            Clock.offset(issuedAt, Duration.ofMinutes(10)));
+
+        assertThat(rotated.verify(oldToken.value())).hasValueSatisfying(token -> {
+            assertThat(token.principal()).isEqualTo(principal);
+            assertThat(rotated.shouldRefresh(token)).isTrue();
+        });
+        assertThat(rotated.issue(principal).value()).startsWith("k2.");
+        assertThat(new AuthTokenService("k2:" + KEY_2, "k2", Duration.ofMinutes(15), issuedAt).verify(oldToken.value()))
+            .isEmpty();
+        assertThat(new AuthTokenService(keys, "k2", Duration.ofMinutes(15), Clock.offset(issuedAt, Duration.ofMinutes(16)))
+            .verify(oldToken.value())).isEmpty();
+    }
+
+    private Cookie login(String email, String password) throws Exception {
+        MvcResult result = mockMvc.perform(formLogin("/auth/login").user(email).password(password))
+            .andExpect(status().is3xxRedirection())
+            .andReturn();
+        Cookie token = result.getResponse().getCookie(TokenAuthenticationFilter.COOKIE_NAME);
+        assertThat(token).isNotNull();
+        assertThat(token.isHttpOnly()).isTrue();
+        return token;
+    }
+
+    private String applyPage() {
+        return "/jobs/" + jobService.listOpenJobs().get(0).getId() + "/apply";
+    }
+
+    private static String tampered(String value) {
+        int payloadStart = value.indexOf('.') + 1;
+        char flipped = value.charAt(payloadStart) == 'A' ? 'B' : 'A';
+        return value.substring(0, payloadStart) + flipped + value.substring(payloadStart + 1);
+    }
+}
@@ -0,0 +1,52 @@
+package com.jobly.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jobly.model.Role.RoleName;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserPrincipalLoginTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void loginStoresACompactPrincipalWithoutThePassword() throws Exception {
+        Authentication[] captured = new Authentication[1];
+
+        mockMvc.perform(formLogin("/auth/login").user("admin@jobly.com").password("Admin@123"))
+            .andExpect(authenticated().withAuthentication(authentication -> captured[0] = authentication));
+
+        assertThat(captured[0].getPrincipal()).isInstanceOf(UserPrincipal.class);
+        UserPrincipal principal = (UserPrincipal) captured[0].getPrincipal();
+        assertThat(principal.email()).isEqualTo("admin@jobly.com");
+        assertThat(principal.getPassword()).isNull();
+        assertThat(principal.hasRole(RoleName.ROLE_SUPER_ADMIN)).isTrue();
+        assertThat(principal.hasRole(RoleName.ROLE_CANDIDATE)).isFalse();
+        assertThat(captured[0].getAuthorities()).extracting(Object::toString).contains("ROLE_SUPER_ADMIN");
+        assertThat(serializedSize(principal)).isLessThan(512);
+    }
+
+    private static int serializedSize(Object value) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.size();
+    }
+}
@@ -0,0 +1,115 @@
+package com.jobly.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.jobly.model.JobApplication;
+import com.jobly.model.enums.ApplicationStatus;
+import com.jobly.repository.JobApplicationRepository;
+import com.jobly.repository.JobRepository;
+import com.jobly.repository.UserRepository;
+import com.jobly.security.UserPrincipal;
+import com.jobly.service.ApplicationService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ApplicationStatusBulkUpdateTest {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void updatesSelectedApplicationsOfOneJobInASingleStatement() {
+        Map<Long, List<Long>> idsByJob = applicationIdsByJob();
+        Long jobId = idsByJob.keySet().iterator().next();
+        Long otherApplicationId = idsByJob.entrySet().stream()
+            .filter(entry -> !entry.getKey().equals(jobId))
+            .map(entry -> entry.getValue().get(0))
+            .findFirst()
+            .orElseThrow();
+        UserPrincipal poster = posterOf(jobId);
+        applicationService.updateApplicationStatuses(jobId, List.of(), ApplicationStatus.REJECTED, poster);
+
+        List<Long> selected = new ArrayList<>(idsByJob.get(jobId));
+        selected.add(otherApplicationId);
+        jdbcTemplate.update("update job_applications set updated_by = null where job_id = ?", jobId);
+        ApplicationStatus otherStatusBefore = jobApplicationRepository.findById(otherApplicationId).orElseThrow().getStatus();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        int updated = applicationService.updateApplicationStatuses(jobId, selected, ApplicationStatus.SHORTLISTED, poster);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(updated).isEqualTo(idsByJob.get(jobId).size());
+        assertThat(jobApplicationRepository.findAllById(idsByJob.get(jobId)))
+            .extracting(JobApplication::getStatus)
+            .containsOnly(ApplicationStatus.SHORTLISTED);
+        assertThat(jobApplicationRepository.findAllById(idsByJob.get(jobId)))
+            .extracting(JobApplication::getUpdatedBy)
+            .containsOnly("system");
+        assertThat(jobApplicationRepository.findById(otherApplicationId).orElseThrow().getStatus())
+            .isEqualTo(otherStatusBefore);
+    }
+
+    @Test
+    void rejectsUsersWhoCannotManageTheJob() {
+        Long jobId = applicationIdsByJob().keySet().iterator().next();
+        UserPrincipal candidate = UserPrincipal.of(userRepository.findByEmail("john.doe@example.com").orElseThrow());
+
+        assertThatThrownBy(() -> applicationService.updateApplicationStatuses(
+                jobId, applicationIdsByJob().get(jobId), ApplicationStatus.REJECTED, candidate))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsStatusesOutsideTheBulkMoves() {
+        Long jobId = applicationIdsByJob().keySet().iterator().next();
+
+        assertThatThrownBy(() -> applicationService.updateApplicationStatuses(
+                jobId, applicationIdsByJob().get(jobId), ApplicationStatus.SUBMITTED, posterOf(jobId)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Map<Long, List<Long>> applicationIdsByJob() {
+        return jobApplicationRepository.findAll().stream()
+            .collect(Collectors.groupingBy(application -> application.getJob().getId(),
+                TreeMap::new,
+                Collectors.mapping(JobApplication::getId, Collectors.toList())));
+    }
+
+    private UserPrincipal posterOf(Long jobId) {
+        Long posterId = jobRepository.findPostedByIdById(jobId).orElseThrow();
+        return UserPrincipal.of(userRepository.findById(posterId).orElseThrow());
+    }
+}
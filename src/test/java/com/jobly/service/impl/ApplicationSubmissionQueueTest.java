@@ -0,0 +1,94 @@
+package com.jobly.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobly.TestUsers;
+import com.jobly.dto.application.ApplicationReceipt;
+import com.jobly.exception.ServiceBusyException;
+import com.jobly.model.JobApplication;
+import com.jobly.model.User;
+import com.jobly.repository.JobApplicationRepository;
+import com.jobly.repository.UserRepository;
+import com.jobly.service.JobService;
+import com.jobly.service.UserService;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ApplicationSubmissionQueueTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Test
+    void rejectsSubmissionsOnceTheQueueIsFull() {
+        ApplicationSubmissionQueue queue = new ApplicationSubmissionQueue(jdbcTemplate, transactionTemplate, eventPublisher, true, 2, 1, 10);
+
+        queue.submit(1L, 1L, "first", null);
+        queue.submit(1L, 1L, "second", null);
+
+        assertThatThrownBy(() -> queue.submit(1L, 1L, "third", null))
+            .isInstanceOf(ServiceBusyException.class)
+            .extracting(ex -> ((ServiceBusyException) ex).getRetryAfterSeconds())
+            .isEqualTo(ApplicationSubmissionQueue.RETRY_AFTER_SECONDS);
+        assertThat(queue.pending()).isEqualTo(2);
+    }
+
+    @Test
+    void writersInsertQueuedApplicationsAndCompleteReceipts() throws Exception {
+        User candidate = userRepository.findByEmail("john.doe@example.com").orElseThrow();
+        Long jobId = jobService.listOpenJobs().get(0).getId();
+        ApplicationSubmissionQueue queue = new ApplicationSubmissionQueue(jdbcTemplate, transactionTemplate, eventPublisher, true, 100, 2, 10);
+
+        List<ApplicationReceipt> queued = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            User queuedCandidate = TestUsers.registerCandidate(userService, "Queued Candidate", "queued" + i + "@example.com");
+            queued.add(queue.submit(jobId, queuedCandidate.getId(), "Queued cover letter " + i, null));
+        }
+        ApplicationReceipt orphan = queue.submit(Long.MAX_VALUE, candidate.getId(), "No such job", null);
+        ApplicationReceipt duplicate = queue.submit(jobId, queued.get(0).getCandidateId(), "Queued twice", null);
+        queue.start();
+        queue.stop();
+
+        for (ApplicationReceipt receipt : queued) {
+            ApplicationReceipt outcome = queue.findReceipt(receipt.getId()).orElseThrow();
+            assertThat(outcome.getStatus()).isEqualTo(ApplicationReceipt.Status.SAVED);
+            JobApplication saved = jobApplicationRepository.findById(outcome.getApplicationId()).orElseThrow();
+            assertThat(saved.getCoverLetter()).startsWith("Queued cover letter");
+        }
+        assertThat(queue.findReceipt(orphan.getId()).orElseThrow().getStatus())
+            .isEqualTo(ApplicationReceipt.Status.FAILED);
+        assertThat(queue.findReceipt(duplicate.getId()).orElseThrow())
+            .extracting(ApplicationReceipt::getStatus, ApplicationReceipt::getFailureReason)
+            .containsExactly(ApplicationReceipt.Status.FAILED, "You have already applied to this job.");
+    }
+}
@@ -0,0 +1,111 @@
+package com.jobly.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.jobly.dto.job.JobRequest;
+import com.jobly.dto.job.JobResponse;
+import com.jobly.event.JobChangedEvent;
+import com.jobly.repository.JobRepository;
+import com.jobly.repository.UserRepository;
+import com.jobly.security.UserPrincipal;
+import com.jobly.service.JobService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JobDetailCacheTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @SpyBean
+    private JobRepository jobRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void repeatedDetailReadsAreServedFromCache() {
+        Long jobId = jobService.listOpenJobs().get(0).getId();
+        jobService.getJob(jobId);
+
+        statistics.clear();
+        JobResponse cached = jobService.getJob(jobId);
+
+        assertThat(cached.getId()).isEqualTo(jobId);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void callersCannotChangeTheCachedDetails() {
+        Long jobId = jobService.listOpenJobs().get(0).getId();
+        JobResponse first = jobService.getJob(jobId);
+        String title = first.getTitle();
+
+        first.setTitle("Changed by a caller");
+
+        assertThat(jobService.getJob(jobId).getTitle()).isEqualTo(title);
+    }
+
+    @Test
+    void readThatRacedAnEvictionIsNotStored() {
+        Long jobId = jobService.listOpenJobs().get(1).getId();
+        JobServiceImpl service = (JobServiceImpl) jobService;
+        service.evictJobDetails(new JobChangedEvent(jobId, null));
+        // The row is read, then a write commits and evicts before the read gets to store it.
+        Answer<?> repository = mockingDetails(jobRepository).getMockCreationSettings().getDefaultAnswer();
+        doAnswer(invocation -> {
+            Object row = repository.answer(invocation);
+            service.evictJobDetails(new JobChangedEvent(jobId, null));
+            return row;
+        }).doAnswer(repository).when(jobRepository).findWithCompanyAndPosterById(anyLong());
+        jobService.getJob(jobId);
+
+        statistics.clear();
+        jobService.getJob(jobId);
+
+        assertThat(statistics.getPrepareStatementCount()).isPositive();
+    }
+
+    @Test
+    void updateEvictsCachedDetails() {
+        UserPrincipal poster = UserPrincipal.of(userRepository.findByEmail("david.brown@innovate.com").orElseThrow());
+        JobResponse job = jobService.listJobsForUser(poster).get(0);
+        jobService.getJob(job.getId());
+
+        JobRequest request = new JobRequest();
+        request.setTitle(job.getTitle() + " (updated)");
+        request.setDescription(job.getDescription());
+        request.setLocation(job.getLocation());
+        request.setEmploymentType(job.getEmploymentType());
+        request.setCompanyId(job.getCompanyId());
+        jobService.updateJob(job.getId(), request, poster);
+
+        assertThat(jobService.getJob(job.getId()).getTitle()).isEqualTo(job.getTitle() + " (updated)");
+    }
+}
@@ -0,0 +1,102 @@
+package com.jobly.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobly.dto.job.JobPage;
+import com.jobly.dto.job.JobResponse;
+import com.jobly.repository.UserRepository;
+import com.jobly.security.UserPrincipal;
+import com.jobly.service.JobService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JobServiceImplQueryCountTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void listOpenJobsLoadsCompanyAndPosterInOneStatement() {
+        List<JobResponse> jobs = countingStatements(() -> jobService.listOpenJobs());
+
+        assertThat(jobs).hasSizeGreaterThan(1);
+        assertThat(jobs).allSatisfy(job -> {
+            assertThat(job.getCompanyName()).isNotBlank();
+            assertThat(job.getPostedByEmail()).isNotBlank();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void openJobPageLoadsCompanyAndPosterInOneStatement() {
+        JobPage page = countingStatements(() -> jobService.listOpenJobs(null, 10));
+
+        assertThat(page.getJobs()).hasSizeGreaterThan(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void listJobsForUserLoadsCompanyAndPosterInOneStatement() {
+        UserPrincipal poster = UserPrincipal.of(userRepository.findByEmail("sarah.williams@techcorp.com").orElseThrow());
+
+        List<JobResponse> jobs = countingStatements(() -> jobService.listJobsForUser(poster));
+
+        assertThat(jobs).hasSizeGreaterThan(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void managePermissionByIdIsResolvedFromThePosterCache() {
+        UserPrincipal poster = UserPrincipal.of(userRepository.findByEmail("sarah.williams@techcorp.com").orElseThrow());
+        UserPrincipal candidate = UserPrincipal.of(userRepository.findByEmail("john.doe@example.com").orElseThrow());
+        Long jobId = jobService.listJobsForUser(poster).get(0).getId();
+        jobService.canManageJob(poster, jobId);
+
+        statistics.clear();
+        boolean posterCanManage = jobService.canManageJob(poster, jobId);
+        boolean candidateCanManage = jobService.canManageJob(candidate, jobId);
+
+        assertThat(posterCanManage).isTrue();
+        assertThat(candidateCanManage).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private <T> T countingStatements(Supplier<T> action) {
+        // Run inside a session like open-in-view does, so lazy loads would be counted rather than fail.
+        return transactionTemplate.execute(status -> {
+            statistics.clear();
+            return action.get();
+        });
+    }
+}
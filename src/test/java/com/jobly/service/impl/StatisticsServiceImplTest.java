@@ -0,0 +1,129 @@
+package com.jobly.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobly.TestUsers;
+import com.jobly.dto.admin.DashboardStats;
+import com.jobly.dto.job.JobRequest;
+import com.jobly.dto.job.JobResponse;
+import com.jobly.model.User;
+import com.jobly.model.enums.JobStatus;
+import com.jobly.repository.CompanyRepository;
+import com.jobly.repository.JobRepository;
+import com.jobly.repository.StatCounterRepository;
+import com.jobly.repository.UserRepository;
+import com.jobly.security.UserPrincipal;
+import com.jobly.service.JobService;
+import com.jobly.service.StatisticsService;
+import com.jobly.service.UserService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StatisticsServiceImplTest {
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private StatCounterRepository statCounterRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void writePathsKeepCountersInStepWithoutRecounting() {
+        statisticsService.reconcile();
+        DashboardStats before = statisticsService.getDashboardStats();
+
+        User candidate = TestUsers.registerCandidate(userService, "Counter Candidate", "counter.candidate@example.com");
+        assertThat(statisticsService.getDashboardStats().getCandidateCount()).isEqualTo(before.getCandidateCount() + 1);
+
+        userService.toggleUserEnabled(candidate.getId());
+        DashboardStats disabled = statisticsService.getDashboardStats();
+        assertThat(disabled.getCandidateCount()).isEqualTo(before.getCandidateCount());
+        assertThat(disabled.getDisabledUsers()).isEqualTo(before.getDisabledUsers() + 1);
+
+        UserPrincipal poster = UserPrincipal.of(userRepository.findByEmail("sarah.williams@techcorp.com").orElseThrow());
+        Long companyId = jobService.listJobsForUser(poster).get(0).getCompanyId();
+        long companyOpenJobs = companyRepository.findById(companyId).orElseThrow().getOpenJobCount();
+
+        JobResponse job = jobService.createJob(jobRequest(companyId), poster);
+        assertThat(statisticsService.getDashboardStats().getOpenJobs()).isEqualTo(before.getOpenJobs() + 1);
+        assertThat(companyRepository.findById(companyId).orElseThrow().getOpenJobCount()).isEqualTo(companyOpenJobs + 1);
+
+        jobService.deleteJob(job.getId(), poster);
+        assertThat(statisticsService.getDashboardStats().getOpenJobs()).isEqualTo(before.getOpenJobs());
+        assertThat(companyRepository.findById(companyId).orElseThrow().getOpenJobCount()).isEqualTo(companyOpenJobs);
+    }
+
+    @Test
+    void reconcileRepairsDrift() {
+        transactionTemplate.executeWithoutResult(status -> {
+            statCounterRepository.increment(StatisticsServiceImpl.OPEN_JOBS, 42);
+            companyRepository.findAll().forEach(company -> companyRepository.adjustOpenJobCount(company.getId(), 7));
+        });
+
+        statisticsService.reconcile();
+
+        assertThat(statisticsService.getDashboardStats().getOpenJobs())
+            .isEqualTo(jobRepository.findByStatus(JobStatus.OPEN).size());
+        assertThat(companyRepository.findAll()).allSatisfy(company ->
+            assertThat(company.getOpenJobCount()).isEqualTo(jobRepository.findByStatus(JobStatus.OPEN).stream()
+                .filter(job -> job.getCompany().getId().equals(company.getId()))
+                .count()));
+    }
+
+    @Test
+    void dashboardRendersCountersAndPagedLists() throws Exception {
+        UserPrincipal admin = UserPrincipal.of(userRepository.findByEmail("admin@jobly.com").orElseThrow());
+
+        mockMvc.perform(get("/admin/dashboard").with(user(admin)))
+            .andExpect(status().isOk())
+            .andExpect(content().string(Matchers.containsString("Disabled accounts")))
+            .andExpect(content().string(Matchers.containsString(" open")));
+    }
+
+    private static JobRequest jobRequest(Long companyId) {
+        JobRequest request = new JobRequest();
+        request.setTitle("Counter Engineer");
+        request.setDescription("Keeps the numbers honest.");
+        request.setLocation("Remote");
+        request.setEmploymentType("FULL_TIME");
+        request.setSalaryMin(80_000);
+        request.setSalaryMax(100_000);
+        request.setCompanyId(companyId);
+        return request;
+    }
+}
@@ -0,0 +1,145 @@
+package com.jobly.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jobly.dto.job.JobRequest;
+import com.jobly.dto.job.JobResponse;
+import com.jobly.repository.UserRepository;
+import com.jobly.security.UserPrincipal;
+import com.jobly.service.JobService;
+
+@SpringBootTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:jobly-conditional-get;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContentVersions contentVersions;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void jobPageIsNotModifiedUntilTheJobChanges() throws Exception {
+        UserPrincipal poster = poster();
+        JobResponse job = jobService.createJob(jobRequest("Conditional Request Engineer", poster), poster);
+        try {
+            String etag = mockMvc.perform(get("/jobs/{id}", job.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(etag).isNotNull();
+
+            mockMvc.perform(get("/jobs/{id}", job.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+            jobService.updateJob(job.getId(), jobRequest("Senior Conditional Request Engineer", poster), poster);
+            String changed = mockMvc.perform(get("/jobs/{id}", job.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(changed).isNotEqualTo(etag);
+        } finally {
+            jobService.deleteJob(job.getId(), poster);
+        }
+    }
+
+    @Test
+    void jobBoardIsNotModifiedUntilAnyJobChanges() throws Exception {
+        String etag = mockMvc.perform(get("/jobs").param("location", "Remote"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        // The second request is answered by the page cache, the first rendered by the controller.
+        mockMvc.perform(get("/jobs").param("location", "Remote").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+        mockMvc.perform(get("/jobs").param("location", "Remote").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        UserPrincipal poster = poster();
+        JobResponse job = jobService.createJob(jobRequest("Conditional Request Engineer", poster), poster);
+        try {
+            mockMvc.perform(get("/jobs").param("location", "Remote").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        } finally {
+            jobService.deleteJob(job.getId(), poster);
+        }
+    }
+
+    @Test
+    void writesFromOtherNodesChangeTheValidators() throws Exception {
+        List<JobResponse> openJobs = jobService.listOpenJobs();
+        JobResponse job = openJobs.get(0);
+        String boardEtag = mockMvc.perform(get("/jobs"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String jobEtag = mockMvc.perform(get("/jobs/{id}", job.getId()))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Written behind this node's back, as another node would.
+        jdbcTemplate.update("update jobs set updated_at = ? where id = ?", LocalDateTime.now().plusSeconds(1), openJobs.get(1).getId());
+        jdbcTemplate.update("update companies set updated_at = ? where id = ?", LocalDateTime.now().plusSeconds(2), job.getCompanyId());
+        contentVersions.refresh();
+
+        mockMvc.perform(get("/jobs").header(HttpHeaders.IF_NONE_MATCH, boardEtag))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/jobs/{id}", job.getId()).header(HttpHeaders.IF_NONE_MATCH, jobEtag))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void signedInPagesCarryNoValidators() throws Exception {
+        UserPrincipal candidate = UserPrincipal.of(userRepository.findByEmail("john.doe@example.com").orElseThrow());
+        Long jobId = jobService.listJobsForUser(poster()).get(0).getId();
+
+        mockMvc.perform(get("/jobs").with(user(candidate)))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        mockMvc.perform(get("/jobs/{id}", jobId).with(user(candidate)))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    private UserPrincipal poster() {
+        return UserPrincipal.of(userRepository.findByEmail("sarah.williams@techcorp.com").orElseThrow());
+    }
+
+    private JobRequest jobRequest(String title, UserPrincipal poster) {
+        JobRequest request = new JobRequest();
+        request.setTitle(title);
+        request.setDescription("Answers 304 whenever it can.");
+        request.setLocation("Remote");
+        request.setEmploymentType("FULL_TIME");
+        request.setSalaryMin(90_000);
+        request.setSalaryMax(120_000);
+        request.setCompanyId(jobService.listJobsForUser(poster).get(0).getCompanyId());
+        return request;
+    }
+}
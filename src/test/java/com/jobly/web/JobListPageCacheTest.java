@@ -0,0 +1,125 @@
+package com.jobly.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.jobly.dto.job.JobFilter;
+import com.jobly.dto.job.JobRequest;
+import com.jobly.dto.job.JobResponse;
+import com.jobly.repository.UserRepository;
+import com.jobly.security.UserPrincipal;
+import com.jobly.service.JobService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:jobly-page-cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JobListPageCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private JobService jobService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void anonymousPagesAreServedFromMemoryUntilAJobChanges() throws Exception {
+        String first = mockMvc.perform(get("/jobs").param("employmentType", "FULL_TIME"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        double hits = hitCount();
+
+        byte[] gzipped = mockMvc.perform(get("/jobs").param("employmentType", "FULL_TIME")
+                .header("Accept-Encoding", "gzip, deflate"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Encoding", "gzip"))
+            .andReturn().getResponse().getContentAsByteArray();
+        assertThat(gunzip(gzipped)).isEqualTo(first);
+        assertThat(hitCount()).isEqualTo(hits + 1);
+
+        UserPrincipal poster = UserPrincipal.of(userRepository.findByEmail("sarah.williams@techcorp.com").orElseThrow());
+        JobResponse job = jobService.createJob(jobRequest(jobService.listJobsForUser(poster).get(0).getCompanyId()), poster);
+        try {
+            mockMvc.perform(get("/jobs").param("employmentType", "FULL_TIME"))
+                .andExpect(content().string(Matchers.containsString("Cache Invalidation Engineer")));
+        } finally {
+            jobService.deleteJob(job.getId(), poster);
+        }
+    }
+
+    @Test
+    void errorPagesAreNotStored() throws Exception {
+        doThrow(new CannotCreateTransactionException("Connection is not available"))
+            .doCallRealMethod()
+            .when(jobService).getOpenJobFacets(any(JobFilter.class));
+
+        mockMvc.perform(get("/jobs").param("employmentType", "CONTRACT"))
+            .andExpect(content().string(Matchers.containsString("Connection is not available")));
+        double hits = hitCount();
+
+        mockMvc.perform(get("/jobs").param("employmentType", "CONTRACT"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(Matchers.not(Matchers.containsString("Connection is not available"))));
+        assertThat(hitCount()).isEqualTo(hits);
+    }
+
+    @Test
+    void signedInUsersAlwaysRender() throws Exception {
+        mockMvc.perform(get("/jobs")).andExpect(status().isOk());
+        UserPrincipal candidate = UserPrincipal.of(userRepository.findByEmail("john.doe@example.com").orElseThrow());
+
+        mockMvc.perform(get("/jobs").with(user(candidate)))
+            .andExpect(content().string(Matchers.containsString("My Applications")));
+    }
+
+    private double hitCount() {
+        return meterRegistry.get("cache.gets").tag("cache", "jobListPages").tag("result", "hit").functionCounter().count();
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static JobRequest jobRequest(Long companyId) {
+        JobRequest request = new JobRequest();
+        request.setTitle("Cache Invalidation Engineer");
+        request.setDescription("One of the two hard things.");
+        request.setLocation("Remote");
+        request.setEmploymentType("FULL_TIME");
+        request.setSalaryMin(90_000);
+        request.setSalaryMax(120_000);
+        request.setCompanyId(companyId);
+        return request;
+    }
+}